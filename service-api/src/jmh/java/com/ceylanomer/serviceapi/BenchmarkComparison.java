@@ -0,0 +1,79 @@
+package com.ceylanomer.serviceapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, a saved baseline and a later run, and prints the change in score and in bytes
+ * allocated per operation for each benchmark and parameter combination. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec@compare}.
+ */
+public final class BenchmarkComparison {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final String ROW = "%-72s %18s %18s %9s %12s %12s%n";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json>");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+        System.out.printf(ROW, "benchmark", "baseline", "current", "change", "base B/op", "B/op");
+        current.forEach((name, result) -> {
+            JsonNode before = baseline.get(name);
+            System.out.printf(ROW, name,
+                    before != null ? score(before) : "-",
+                    score(result),
+                    before != null ? change(before.path("primaryMetric"), result.path("primaryMetric")) : "new",
+                    before != null ? allocation(before) : "-",
+                    allocation(result));
+        });
+        baseline.keySet().stream()
+                .filter(name -> !current.containsKey(name))
+                .forEach(name -> System.out.printf(ROW, name, score(baseline.get(name)), "-", "removed", allocation(baseline.get(name)), "-"));
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byName = new TreeMap<>();
+        results.forEach(result -> byName.put(name(result), result));
+        return byName;
+    }
+
+    private static String name(JsonNode result) {
+        String benchmark = result.path("benchmark").asText();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        StringJoiner params = new StringJoiner(",", ":", "");
+        params.setEmptyValue("");
+        result.path("params").properties().forEach(param -> params.add(param.getKey() + "=" + param.getValue().asText()));
+        return name + params;
+    }
+
+    private static String score(JsonNode result) {
+        JsonNode metric = result.path("primaryMetric");
+        return String.format("%.3f %s", metric.path("score").asDouble(), metric.path("scoreUnit").asText());
+    }
+
+    private static String allocation(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOCATION);
+        return metric.isMissingNode() ? "-" : String.format("%.1f", metric.path("score").asDouble());
+    }
+
+    private static String change(JsonNode before, JsonNode after) {
+        double baseline = before.path("score").asDouble();
+        if (baseline == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (after.path("score").asDouble() - baseline) / baseline * 100);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a service event to a number of handlers that do nothing. With {@code async} the score is the publisher's
+ * side only, the hand-off to each handler's queue; a queue that fills up hands its dead letters to the background
+ * writer, whose repository drops the document where the real one would write to Mongo. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DomainEventPublisher}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventPublisherBenchmark {
+
+    @Param({"1", "4"})
+    private int handlers;
+
+    @Param({"false", "true"})
+    private boolean async;
+
+    private DomainEventPublisher publisher;
+    private DomainEvent event;
+
+    @Setup
+    public void setUp() {
+        var properties = new DomainEventHandlerProperties();
+        properties.getDefaults().setAsync(async);
+        var deadLetters = (DeadLetterMongoRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{DeadLetterMongoRepository.class}, (proxy, method, args) -> null);
+        var context = new GenericApplicationContext();
+        for (int i = 0; i < handlers; i++) {
+            context.registerBean("handler" + i, NoOpHandler.class, NoOpHandler::new);
+        }
+        context.refresh();
+        publisher = new DomainEventPublisher(context, properties, deadLetters, new SimpleMeterRegistry());
+        event = new ServiceAggregate("service-1", List.of()).getDomainEvents().getFirst();
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(event);
+    }
+
+    public static class NoOpHandler extends DomainEventHandler<ServiceDomainEvent> {
+        @Override
+        protected void handle(ServiceDomainEvent event) {
+        }
+    }
+}
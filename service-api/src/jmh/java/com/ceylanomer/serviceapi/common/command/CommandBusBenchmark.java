@@ -0,0 +1,110 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandlerProperties;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventPublisher;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimitProperties;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches a command through the bus as a request does: write limiter, metrics interceptor, handler and the
+ * publishing of the created event. {@code plainCommand} runs on the caller; {@code aggregateCommand} adds the hop
+ * to the aggregate's mailbox shard and back. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CommandBus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandBusBenchmark {
+
+    private final PingCommand pingCommand = new PingCommand("service-1");
+    private final TouchCommand touchCommand = new TouchCommand("service-1");
+    private ExecutorService commandExecutor;
+    private CommandMailboxes commandMailboxes;
+    private DomainEventPublisher domainEventPublisher;
+    private CommandBus commandBus;
+
+    @Setup
+    public void setUp() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var pingHandler = new PingCommandHandler();
+        var touchHandler = new TouchCommandHandler();
+        var context = new GenericApplicationContext();
+        context.getDefaultListableBeanFactory().setDependencyComparator(AnnotationAwareOrderComparator.INSTANCE);
+        context.registerBean(PingCommandHandler.class, () -> pingHandler);
+        context.registerBean(TouchCommandHandler.class, () -> touchHandler);
+        context.registerBean(CommandMetricsInterceptor.class, () -> new CommandMetricsInterceptor(meterRegistry));
+        context.refresh();
+        domainEventPublisher = new DomainEventPublisher(context, new DomainEventHandlerProperties(), null, meterRegistry);
+        pingHandler.setDomainEventPublisher(domainEventPublisher);
+        touchHandler.setDomainEventPublisher(domainEventPublisher);
+        commandExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        commandMailboxes = new CommandMailboxes(new CommandBusProperties(), meterRegistry);
+        commandBus = new CommandBus(context, context.getBeanProvider(CommandInterceptor.class), commandExecutor, commandMailboxes,
+                new ConcurrencyLimiters(new ConcurrencyLimitProperties(), meterRegistry));
+        commandBus.registerHandlers();
+    }
+
+    @TearDown
+    public void tearDown() {
+        commandMailboxes.shutdown();
+        commandExecutor.shutdown();
+        domainEventPublisher.shutdown();
+    }
+
+    @Benchmark
+    public ServiceAggregate plainCommand() {
+        return commandBus.executeWithResponse(pingCommand);
+    }
+
+    @Benchmark
+    public ServiceAggregate aggregateCommand() {
+        return commandBus.executeWithResponse(touchCommand);
+    }
+
+    public record PingCommand(String id) implements Command {
+    }
+
+    public record TouchCommand(String id) implements AggregateCommand {
+        @Override
+        public String aggregateId() {
+            return id;
+        }
+    }
+
+    public static class PingCommandHandler extends CommandHandler<PingCommand, ServiceAggregate> {
+        @Override
+        protected ServiceAggregate handle(PingCommand command) {
+            return new ServiceAggregate(command.id(), List.of());
+        }
+    }
+
+    public static class TouchCommandHandler extends CommandHandler<TouchCommand, ServiceAggregate> {
+        @Override
+        protected ServiceAggregate handle(TouchCommand command) {
+            return new ServiceAggregate(command.id(), List.of());
+        }
+    }
+}
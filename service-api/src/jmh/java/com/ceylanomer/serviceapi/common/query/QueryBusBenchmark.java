@@ -0,0 +1,84 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimitProperties;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.query.GetServiceByIdQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches {@link GetServiceByIdQuery} through the bus with the read limiter and metrics interceptor, with and
+ * without the query cache in front of a handler that answers from memory, so the numbers are the bus's own cost.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=QueryBus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBusBenchmark {
+
+    private static final int IDS = 1024;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private GetServiceByIdQuery[] queries;
+    private QueryBus queryBus;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var queryCacheProperties = new QueryCacheProperties();
+        queryCacheProperties.getDefaults().setEnabled(cached);
+        var context = new GenericApplicationContext();
+        context.registerBean(InMemoryQueryHandler.class, InMemoryQueryHandler::new);
+        context.registerBean(QueryMetricsInterceptor.class, () -> new QueryMetricsInterceptor(meterRegistry));
+        context.refresh();
+        queryBus = new QueryBus(context, context.getBeanProvider(QueryInterceptor.class), queryCacheProperties, meterRegistry,
+                new ConcurrencyLimiters(new ConcurrencyLimitProperties(), meterRegistry));
+        queryBus.registerHandlers();
+        queries = new GetServiceByIdQuery[IDS];
+        for (int i = 0; i < IDS; i++) {
+            queries[i] = GetServiceByIdQuery.builder().id("service-" + i).build();
+        }
+    }
+
+    @Benchmark
+    public ServiceAggregate getById() {
+        return queryBus.execute(queries[next++ & (IDS - 1)]);
+    }
+
+    public static class InMemoryQueryHandler implements CacheableQueryHandler<GetServiceByIdQuery, ServiceAggregate> {
+        private final ServiceAggregate service = new ServiceAggregate("service", List.of());
+
+        @Override
+        public ServiceAggregate handle(GetServiceByIdQuery query) {
+            return service;
+        }
+
+        @Override
+        public Collection<GetServiceByIdQuery> invalidatedBy(DomainEvent event) {
+            return List.of();
+        }
+    }
+}
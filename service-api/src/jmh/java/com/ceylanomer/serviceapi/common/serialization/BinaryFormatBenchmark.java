@@ -0,0 +1,89 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequest;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with the CBOR and Smile media types on the service payloads: writing a {@code Response<ServiceResponse>}
+ * and reading a {@code ServiceRequest}. Wire sizes are printed once per trial since JMH only reports time. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=BinaryFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"10", "1000"})
+    private int resources;
+
+    private Response<ServiceResponse> response;
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private byte[] requestBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Resource> items = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            items.add(new Resource("resource-" + i, List.of(
+                    new Owner("owner-" + i, "Owner " + i, "ACC-" + i, i % 5),
+                    new Owner("owner-shared", "Shared Owner", "ACC-SHARED", 1))));
+        }
+        response = new Response<>(ServiceResponse.builder().id("service-1").resources(items).build());
+
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().addModule(new BlackbirdModule()).build();
+            case "smile" -> SmileMapper.builder().addModule(new BlackbirdModule()).build();
+            default -> JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        };
+        responseWriter = mapper.writerFor(mapper.constructType(
+                ResolvableType.forClassWithGenerics(Response.class, ServiceResponse.class).getType()));
+        requestReader = mapper.readerFor(ServiceRequest.class);
+        requestBody = mapper.writeValueAsBytes(new ServiceRequest(items));
+        System.out.printf("%n%s with %d resources: response %d bytes, request %d bytes%n",
+                format, resources, responseWriter.writeValueAsBytes(response).length, requestBody.length);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ServiceRequest readRequest() throws IOException {
+        return requestReader.readValue(requestBody);
+    }
+}
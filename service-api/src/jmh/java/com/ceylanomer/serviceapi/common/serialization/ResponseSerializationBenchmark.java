@@ -0,0 +1,89 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.ResolvableType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a {@code Response<ServiceResponse>} the way the default converter does (type resolved and writer built
+ * per call, reflective accessors, fresh output stream) against the precompiled writer with Blackbird accessors and
+ * a pooled buffer. Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResponseSerialization}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int resources;
+
+    private Response<ServiceResponse> response;
+    private ObjectMapper defaultMapper;
+    private ObjectWriter precompiledWriter;
+    private OutputBufferPool bufferPool;
+    private Type responseType;
+
+    @Setup
+    public void setUp() {
+        List<Resource> items = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            items.add(new Resource("resource-" + i, List.of(
+                    new Owner("owner-" + i, "Owner " + i, "ACC-" + i, i % 5),
+                    new Owner("owner-shared", "Shared Owner", "ACC-SHARED", 1))));
+        }
+        response = new Response<>(ServiceResponse.builder().id("service-1").resources(items).build());
+        responseType = ResolvableType.forClassWithGenerics(Response.class, ServiceResponse.class).getType();
+        defaultMapper = JsonMapper.builder().build();
+        ObjectMapper blackbirdMapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        precompiledWriter = blackbirdMapper.writerFor(blackbirdMapper.constructType(responseType));
+        bufferPool = new OutputBufferPool(4, 8 * 1024, 1024 * 1024);
+    }
+
+    @Benchmark
+    public void defaultConverterPath(Blackhole blackhole) throws IOException {
+        JavaType javaType = defaultMapper.getTypeFactory().constructType(responseType);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        defaultMapper.writer().forType(javaType).writeValue(out, response);
+        blackhole.consume(out.size());
+    }
+
+    @Benchmark
+    public void precompiledWriterPooledBuffer(Blackhole blackhole) throws IOException {
+        OutputBufferPool.Buffer buffer = bufferPool.acquire();
+        try {
+            precompiledWriter.writeValue(buffer, response);
+            blackhole.consume(buffer.size());
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ceylanomer.serviceapi.service;
+
+import com.ceylanomer.serviceapi.common.config.JacksonConfiguration;
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.common.serialization.JsonHotTypes;
+import com.ceylanomer.serviceapi.common.serialization.PrecompiledJacksonHttpMessageConverter;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.ServiceDocument;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import com.ceylanomer.serviceapi.service.rest.ServiceJsonConfiguration;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work around a service outside the buses: creating an aggregate with its created event, mapping a
+ * stored document to an aggregate, building the response and writing and reading {@code Response<ServiceResponse>}
+ * through the JSON converter the application registers, with Blackbird and the precompiled hot types. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ServiceModel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceModelBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int resources;
+
+    private List<Resource> items;
+    private ServiceDocument document;
+    private ServiceAggregate service;
+    private Response<ServiceResponse> response;
+    private Type responseType;
+    private PrecompiledJacksonHttpMessageConverter converter;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        items = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            items.add(new Resource("resource-" + i, List.of(
+                    new Owner("owner-" + i, "Owner " + i, "ACC-" + i, i % 5),
+                    new Owner("owner-shared", "Shared Owner", "ACC-SHARED", 1))));
+        }
+        document = ServiceDocument.builder().id("service-1").resources(List.copyOf(items)).status(Status.ACTIVE).build();
+        service = document.toAggregate();
+        response = new Response<>(ServiceResponse.from(service));
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(jacksonConfiguration.blackbirdModule())
+                .build();
+        JsonHotTypes hotTypes = new ServiceJsonConfiguration().serviceJsonHotTypes();
+        converter = jacksonConfiguration.mappingJackson2HttpMessageConverter(objectMapper, new StaticListableBeanFactory(
+                Map.of("serviceJsonHotTypes", hotTypes)).getBeanProvider(JsonHotTypes.class));
+        responseType = ResolvableType.forClassWithGenerics(Response.class, ServiceResponse.class).getType();
+        responseJson = writeResponseJson();
+    }
+
+    @Benchmark
+    public ServiceAggregate createAggregate() {
+        return new ServiceAggregate("service-1", items);
+    }
+
+    @Benchmark
+    public ServiceAggregate documentToAggregate() {
+        return document.toAggregate();
+    }
+
+    @Benchmark
+    public ServiceResponse responseFrom() {
+        return ServiceResponse.from(service);
+    }
+
+    @Benchmark
+    public byte[] writeResponseJson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, responseType, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Response<ServiceResponse> readResponseJson() throws IOException {
+        MockHttpInputMessage message = new MockHttpInputMessage(responseJson);
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return (Response<ServiceResponse>) converter.read(responseType, null, message);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ceylanomer.serviceapi.service.common;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ServiceDomainEventCodec} with the polymorphic Jackson mapping of {@link ServiceDomainEvent} on a
+ * created event, encoding and decoding. Sizes are printed once per trial; the benchmark profile adds the gc profiler.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ServiceDomainEventCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceDomainEventCodecBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int resources;
+
+    private final ServiceDomainEventCodec codec = new ServiceDomainEventCodec();
+    private ServiceDomainEvent event;
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Resource> items = new ArrayList<>(resources);
+        for (int i = 0; i < resources; i++) {
+            items.add(new Resource("resource-" + i, List.of(
+                    new Owner("owner-" + i, "Owner " + i, "ACC-" + i, i % 5),
+                    new Owner("owner-shared", "Shared Owner", "ACC-SHARED", 1))));
+        }
+        event = (ServiceDomainEvent) new ServiceAggregate("service-1", items).getDomainEvents().getFirst();
+
+        var mapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        jsonWriter = mapper.writerFor(ServiceDomainEvent.class);
+        jsonReader = mapper.readerFor(ServiceDomainEvent.class);
+        binary = codec.encode(event);
+        json = jsonWriter.writeValueAsBytes(event);
+        System.out.printf("%n%d resources: codec %d bytes, json %d bytes%n", resources, binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonWriter.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public ServiceDomainEvent decodeCodec() {
+        return codec.decode(binary);
+    }
+
+    @Benchmark
+    public ServiceDomainEvent decodeJson() throws IOException {
+        return jsonReader.readValue(json);
+    }
+}
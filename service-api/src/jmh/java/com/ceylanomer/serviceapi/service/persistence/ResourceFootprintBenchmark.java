@@ -0,0 +1,111 @@
+package com.ceylanomer.serviceapi.service.persistence;
+
+import com.ceylanomer.serviceapi.common.serialization.StringDeduplicator;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the resources of a batch of cached services in the previous mutable shape (Lombok beans, boxed level, growable
+ * lists, fresh strings per document) and as the compact records with owner strings deduplicated the way the query
+ * cache does it. The retained heap per service is measured with JOL and printed once per trial; JMH reports the build
+ * time. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResourceFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djol.magicFieldOffset=true")
+public class ResourceFootprintBenchmark {
+
+    private static final int SERVICES = 1_000;
+    private static final int OWNER_NAMES = 50;
+
+    @Param({"legacy", "compact"})
+    private String shape;
+
+    @Param({"5", "50"})
+    private int resources;
+
+    @Setup
+    public void setUp() {
+        List<?> services = build();
+        System.out.printf("%n%s with %d resources: %d bytes per service%n",
+                shape, resources, GraphLayout.parseInstance(services).totalSize() / SERVICES);
+    }
+
+    @Benchmark
+    public List<?> build() {
+        List<Object> services = new ArrayList<>(SERVICES);
+        StringDeduplicator strings = new StringDeduplicator(4096);
+        for (int s = 0; s < SERVICES; s++) {
+            services.add("compact".equals(shape) ? compactResources(s, strings) : legacyResources(s));
+        }
+        return services;
+    }
+
+    private List<Resource> compactResources(int service, StringDeduplicator strings) {
+        List<Resource> items = new ArrayList<>(resources);
+        for (int r = 0; r < resources; r++) {
+            items.add(new Resource(id("res", service, r), List.of(
+                    new Owner(id("owner", service, r), ownerName(service + r), accountNumber(service + r), 1))).dedupe(strings));
+        }
+        return List.copyOf(items);
+    }
+
+    private List<LegacyResource> legacyResources(int service) {
+        List<LegacyResource> items = new ArrayList<>();
+        for (int r = 0; r < resources; r++) {
+            List<LegacyOwner> owners = new ArrayList<>();
+            owners.add(new LegacyOwner(id("owner", service, r), ownerName(service + r), accountNumber(service + r), 1));
+            items.add(new LegacyResource(id("res", service, r), owners));
+        }
+        return items;
+    }
+
+    private static String id(String prefix, int service, int resource) {
+        return prefix + "-" + service + "-" + resource;
+    }
+
+    // New instances on every call, as if each service had just been decoded from its own document.
+    private static String ownerName(int seed) {
+        return new String("Owner " + seed % OWNER_NAMES);
+    }
+
+    private static String accountNumber(int seed) {
+        return new String("ACC-" + seed % OWNER_NAMES);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class LegacyResource {
+        private String id;
+        private List<LegacyOwner> owners;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class LegacyOwner {
+        private String id;
+        private String name;
+        private String accountNumber;
+        private Integer level;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dead_letter_events")
+public class DeadLetterDocument {
+    @Id
+    private String id;
+    @Field(value = "handler")
+    private String handler;
+    @Field(value = "key")
+    private String key;
+    @Field(value = "messageId")
+    private String messageId;
+    @Field(value = "event")
+    private DomainEvent event;
+    @Field(value = "attempts")
+    private int attempts;
+    @Field(value = "reason")
+    private String reason;
+    @Field(value = "createdDate")
+    private Date createdDate;
+}
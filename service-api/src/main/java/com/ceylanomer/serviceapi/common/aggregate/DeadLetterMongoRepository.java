@@ -0,0 +1,8 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeadLetterMongoRepository extends MongoRepository<DeadLetterDocument, String> {
+}
@@ -0,0 +1,65 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves dead letters from its own thread, so a publisher whose handler queue overflows never waits on Mongo. The queue
+ * is bounded; a dead letter that does not fit is refused and the caller counts it as dropped.
+ */
+@Slf4j
+class DeadLetterWriter {
+    private final DeadLetterMongoRepository deadLetterMongoRepository;
+    private final BlockingQueue<DeadLetterDocument> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    DeadLetterWriter(DeadLetterMongoRepository deadLetterMongoRepository, int capacity, MeterRegistry meterRegistry) {
+        this.deadLetterMongoRepository = deadLetterMongoRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        Gauge.builder("domain.event.dead.letter.pending", queue, BlockingQueue::size).register(meterRegistry);
+        this.worker = Thread.ofPlatform().daemon().name("dead-letter-writer").start(this::drain);
+    }
+
+    boolean offer(DeadLetterDocument document) {
+        return running && queue.offer(document);
+    }
+
+    void shutdown(Duration timeout) {
+        running = false;
+        try {
+            worker.join(timeout);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        worker.interrupt();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                DeadLetterDocument document = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (document != null) {
+                    save(document);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void save(DeadLetterDocument document) {
+        try {
+            deadLetterMongoRepository.save(document);
+        } catch (RuntimeException exception) {
+            log.error("Could not dead-letter event {} for handler {}: {}", document.getMessageId(), document.getHandler(), document.getReason(), exception);
+        }
+    }
+}
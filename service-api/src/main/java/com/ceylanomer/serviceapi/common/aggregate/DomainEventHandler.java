@@ -2,4 +2,15 @@ package com.ceylanomer.serviceapi.common.aggregate;
 
 public abstract class DomainEventHandler<T extends DomainEvent>{
     protected abstract void handle(T event);
+
+    /**
+     * Replays re-deliver stored events, so only handlers whose effect can be rebuilt from history opt in.
+     */
+    public boolean supportsReplay() {
+        return false;
+    }
+
+    public void replay(T event) {
+        handle(event);
+    }
 }
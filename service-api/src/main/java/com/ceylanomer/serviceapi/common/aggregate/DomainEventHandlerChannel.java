@@ -0,0 +1,156 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+class DomainEventHandlerChannel {
+    private final String name;
+    private final DomainEventHandler<DomainEvent> handler;
+    private final DomainEventHandlerProperties.Settings settings;
+    private final DeadLetterWriter deadLetterWriter;
+    private final HandlerCircuitBreaker circuitBreaker;
+    private final BlockingQueue<DomainEvent> queue;
+    private final Thread worker;
+    private final Timer handleTimer;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterDroppedCounter;
+    private final Counter workerErrorCounter;
+    private volatile boolean running = true;
+
+    DomainEventHandlerChannel(String name, DomainEventHandler<DomainEvent> handler, DomainEventHandlerProperties.Settings settings,
+                              DeadLetterWriter deadLetterWriter, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.handler = handler;
+        this.settings = settings;
+        this.deadLetterWriter = deadLetterWriter;
+        this.circuitBreaker = new HandlerCircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity()));
+        this.handleTimer = meterRegistry.timer("domain.event.handler.duration", "handler", name);
+        this.failedCounter = meterRegistry.counter("domain.event.handler.failures", "handler", name);
+        this.deadLetteredCounter = meterRegistry.counter("domain.event.handler.dead.lettered", "handler", name);
+        this.rejectedCounter = meterRegistry.counter("domain.event.handler.rejected", "handler", name);
+        this.deadLetterDroppedCounter = meterRegistry.counter("domain.event.handler.dead.letter.dropped", "handler", name);
+        this.workerErrorCounter = meterRegistry.counter("domain.event.handler.worker.errors", "handler", name);
+        Gauge.builder("domain.event.handler.lag", queue, BlockingQueue::size).tag("handler", name).register(meterRegistry);
+        Gauge.builder("domain.event.handler.circuit.open", circuitBreaker, breaker -> breaker.state() == HandlerCircuitBreaker.State.CLOSED ? 0 : 1)
+                .tag("handler", name).register(meterRegistry);
+        this.worker = settings.isAsync() ? Thread.ofPlatform().daemon().name("event-handler-" + name).start(this::drain) : null;
+    }
+
+    void submit(DomainEvent event) {
+        if (worker == null) {
+            try {
+                deliver(event);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        if (!queue.offer(event)) {
+            rejectedCounter.increment();
+            deadLetter(event, 0, "Handler queue is full");
+        }
+    }
+
+    void shutdown(Duration timeout) {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(timeout);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        worker.interrupt();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            DomainEvent event = null;
+            try {
+                event = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    deliver(event);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable throwable) {
+                // An Error from the handler must not take down the only consumer of this queue.
+                workerErrorCounter.increment();
+                log.error("Handler {} worker failed on event {}", name, event == null ? null : event.messageId(), throwable);
+                if (event != null) {
+                    deadLetter(event, 1, throwable.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the handler with bounded, backed-off retries and dead-letters the event once the attempts run out. The
+     * circuit breaker only guards async handlers; a sync handler runs on the publishing thread, which must not park
+     * for the whole open duration.
+     */
+    private void deliver(DomainEvent event) throws InterruptedException {
+        long backoff = settings.getInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            if (worker != null) {
+                circuitBreaker.awaitPermission();
+            }
+            long start = System.nanoTime();
+            try {
+                handler.handle(event);
+                handleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                circuitBreaker.onSuccess();
+                return;
+            } catch (RuntimeException exception) {
+                failedCounter.increment();
+                circuitBreaker.onFailure();
+                if (attempt >= Math.max(1, settings.getMaxAttempts())) {
+                    log.error("Handler {} gave up on event {} after {} attempts", name, event.messageId(), attempt, exception);
+                    deadLetter(event, attempt, exception.toString());
+                    return;
+                }
+                log.warn("Handler {} failed on event {} (attempt {}), retrying in {} ms", name, event.messageId(), attempt, backoff);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    deadLetter(event, attempt, exception.toString());
+                    throw interrupted;
+                }
+                backoff = Math.min(backoff * 2, settings.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    private void deadLetter(DomainEvent event, int attempts, String reason) {
+        boolean queued = deadLetterWriter.offer(DeadLetterDocument.builder()
+                .handler(name)
+                .key(event.key())
+                .messageId(event.messageId())
+                .event(event)
+                .attempts(attempts)
+                .reason(reason)
+                .createdDate(new Date())
+                .build());
+        if (queued) {
+            deadLetteredCounter.increment();
+        } else {
+            deadLetterDroppedCounter.increment();
+            log.debug("Dropped dead letter for event {} of handler {}: {}", event.messageId(), name, reason);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.event-handlers")
+public class DomainEventHandlerProperties {
+    private Settings defaults = new Settings();
+    private Map<String, Settings> handlers = new HashMap<>();
+    private int deadLetterQueueCapacity = 1_000;
+
+    public Settings settingsFor(String handlerName) {
+        return handlers.getOrDefault(handlerName, defaults);
+    }
+
+    @Data
+    public static class Settings {
+        private boolean async = true;
+        private int queueCapacity = 10_000;
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -1,37 +1,60 @@
 package com.ceylanomer.serviceapi.common.aggregate;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-@RequiredArgsConstructor
 public class DomainEventPublisher {
 
     private final ApplicationContext applicationContext;
+    private final DomainEventHandlerProperties domainEventHandlerProperties;
+    private final DeadLetterWriter deadLetterWriter;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<? extends DomainEvent>, List<String>> beanNamesByEventType = new ConcurrentHashMap<>();
+    private final Map<String, DomainEventHandlerChannel> channels = new ConcurrentHashMap<>();
+
+    public DomainEventPublisher(ApplicationContext applicationContext, DomainEventHandlerProperties domainEventHandlerProperties,
+                                DeadLetterMongoRepository deadLetterMongoRepository, MeterRegistry meterRegistry) {
+        this.applicationContext = applicationContext;
+        this.domainEventHandlerProperties = domainEventHandlerProperties;
+        this.deadLetterWriter = new DeadLetterWriter(deadLetterMongoRepository, domainEventHandlerProperties.getDeadLetterQueueCapacity(), meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
 
     public void publish(DomainEvent event) {
 
-        List<String> beanNames = getBeanNamesForType(event.getClass());
+        List<String> beanNames = beanNamesByEventType.computeIfAbsent(event.getClass(), this::getBeanNamesForType);
+
+        beanNames.forEach(beanName -> channels.computeIfAbsent(beanName, this::createChannel).submit(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.shutdown(Duration.ofSeconds(5)));
+        deadLetterWriter.shutdown(Duration.ofSeconds(5));
+    }
 
-        beanNames.forEach(beanName -> {
-            DomainEventHandler<DomainEvent> handler = (DomainEventHandler<DomainEvent>) applicationContext.getBean(beanName);
-            handler.handle(event);
-        });
+    private DomainEventHandlerChannel createChannel(String beanName) {
+        DomainEventHandler<DomainEvent> handler = (DomainEventHandler<DomainEvent>) applicationContext.getBean(beanName);
+        return new DomainEventHandlerChannel(beanName, handler, domainEventHandlerProperties.settingsFor(beanName), deadLetterWriter, meterRegistry);
     }
 
     private List<String> getBeanNamesForType(Class<? extends DomainEvent> eventClass) {
-        if (DomainEvent.class.equals(eventClass)) {
-            return new ArrayList<>();
+        // Specific handlers first, so generic ones such as query cache invalidation see their effects.
+        List<String> beanNames = new ArrayList<>(Arrays.asList(applicationContext.getBeanNamesForType(ResolvableType.forClassWithGenerics(DomainEventHandler.class, eventClass))));
+        if (!DomainEvent.class.equals(eventClass)) {
+            beanNames.addAll(getBeanNamesForType((Class<? extends DomainEvent>) eventClass.getSuperclass()));
         }
-        List<String> beanNames = getBeanNamesForType((Class<? extends DomainEvent>) eventClass.getSuperclass());
-        beanNames.addAll(Arrays.asList(applicationContext.getBeanNamesForType(ResolvableType.forClassWithGenerics(DomainEventHandler.class, eventClass))));
-
         return beanNames;
     }
 
@@ -0,0 +1,50 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import java.time.Duration;
+
+class HandlerCircuitBreaker {
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    HandlerCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+    }
+
+    State state() {
+        return state;
+    }
+
+    void awaitPermission() throws InterruptedException {
+        if (state != State.OPEN) {
+            return;
+        }
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+        state = State.HALF_OPEN;
+    }
+
+    void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+}
@@ -5,7 +5,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.time.LocalDateTime;
 import java.util.Date;
 
 @Getter
@@ -18,7 +17,7 @@ public class Header {
     private String messageId;
 
     public Header(Long version) {
-        this.timeStamp = Date.from(LocalDateTime.now().toLocalDate().atStartOfDay().atZone(java.time.ZoneId.systemDefault()).toInstant());
+        this.timeStamp = new Date();
         this.version = version;
         this.messageId = java.util.UUID.randomUUID().toString();
     }
@@ -0,0 +1,17 @@
+package com.ceylanomer.serviceapi.common.command;
+
+/**
+ * Command addressed to a single aggregate. The bus runs commands for the same aggregate one at a time,
+ * in submission order, on the mailbox shard that owns the aggregate id.
+ */
+public interface AggregateCommand extends Command {
+    String aggregateId();
+
+    /**
+     * Whether this command may be skipped because {@code next}, the following queued command for the same
+     * aggregate, makes it redundant. The caller of a skipped command receives the result of {@code next}.
+     */
+    default boolean coalescesWith(AggregateCommand next) {
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import java.util.List;
+
+/**
+ * Commands of one type dispatched together to {@link CommandHandler#handleBatch}. Interceptors see it in place of a
+ * single command on the batch chain of that command type.
+ */
+public record CommandBatch(Class<? extends Command> commandType, List<? extends Command> commands) implements Command {
+}
@@ -1,53 +1,217 @@
 package com.ceylanomer.serviceapi.common.command;
 
 import com.ceylanomer.serviceapi.common.aggregate.BaseAggregate;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.common.limit.AdaptiveConcurrencyLimiter;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class CommandBus {
-    private final Map<Class<? extends Command>, CommandHandler> handlers = new HashMap<>();
+    private final Map<Class<? extends Command>, CommandInvoker> invokers = new HashMap<>();
+    private final Map<Class<? extends Command>, CommandInvoker> batchInvokers = new HashMap<>();
     private final ApplicationContext applicationContext;
-
+    private final ObjectProvider<CommandInterceptor> interceptors;
+    private final ExecutorService commandExecutor;
+    private final CommandMailboxes commandMailboxes;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
 
     @Autowired
-    public CommandBus(ApplicationContext applicationContext) {
+    public CommandBus(ApplicationContext applicationContext, ObjectProvider<CommandInterceptor> interceptors,
+                      @Qualifier("commandExecutor") ExecutorService commandExecutor, CommandMailboxes commandMailboxes,
+                      ConcurrencyLimiters concurrencyLimiters) {
         this.applicationContext = applicationContext;
+        this.interceptors = interceptors;
+        this.commandExecutor = commandExecutor;
+        this.commandMailboxes = commandMailboxes;
+        this.writeLimiter = concurrencyLimiters.write();
     }
 
     @PostConstruct
     public void registerHandlers() {
+        List<CommandInterceptor> orderedInterceptors = interceptors.orderedStream().toList();
         Map<String, CommandHandler> beans = applicationContext.getBeansOfType(CommandHandler.class);
         for (Object bean : beans.values()) {
             if (bean instanceof CommandHandler) {
                 CommandHandler handler = (CommandHandler) bean;
                 Class<? extends Command> commandClass = (Class<? extends Command>) ((ParameterizedType) handler.getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-                handlers.put(commandClass, handler);
+                invokers.put(commandClass, compose(orderedInterceptors, commandClass, handler::process));
+                if (handler.supportsBatch()) {
+                    batchInvokers.put(commandClass, compose(orderedInterceptors, commandClass,
+                            batch -> handler.processBatch(((CommandBatch) batch).commands())));
+                }
             }
         }
     }
 
     public <C extends Command, R extends BaseAggregate> void execute(C command) {
-        CommandHandler<C, R> handler = handlers.get(command.getClass());
-        if (handler != null) {
-            handler.process(command);
-        } else {
-            throw new IllegalArgumentException("No handler registered for " + command.getClass().getName());
+        try (var permit = writeLimiter.acquire()) {
+            dispatch(command);
         }
     }
 
     public <C extends Command, R extends BaseAggregate> R executeWithResponse(C command) {
-        CommandHandler<C, R> handler = handlers.get(command.getClass());
-        if (handler != null) {
-            return handler.process(command);
-        } else {
+        try (var permit = writeLimiter.acquire()) {
+            return (R) dispatch(command);
+        }
+    }
+
+    public <R extends BaseAggregate> List<R> executeAll(List<? extends Command> commands) {
+        try (var permit = writeLimiter.acquire()) {
+            return dispatchAll(commands);
+        }
+    }
+
+    public <C extends Command, R extends BaseAggregate> CompletableFuture<R> executeAsync(C command) {
+        return executeAsync(command, null);
+    }
+
+    public <C extends Command, R extends BaseAggregate> CompletableFuture<R> executeAsync(C command, Duration timeout) {
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = writeLimiter.acquire();
+        } catch (ServiceApiOverloadedException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return submitAsync(command, timeout, permit::close);
+    }
+
+    private <R extends BaseAggregate> List<R> dispatchAll(List<? extends Command> commands) {
+        Map<Class<? extends Command>, List<Integer>> positionsByType = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            positionsByType.computeIfAbsent(commands.get(i).getClass(), type -> new ArrayList<>()).add(i);
+        }
+        List<R> results = new ArrayList<>(Collections.nCopies(commands.size(), null));
+        positionsByType.forEach((commandType, positions) -> {
+            CommandInvoker batchInvoker = batchInvokers.get(commandType);
+            if (AggregateCommand.class.isAssignableFrom(commandType)) {
+                List<CompletableFuture<Object>> pending = new ArrayList<>(positions.size());
+                positions.forEach(position -> pending.add(submit((AggregateCommand) commands.get(position))));
+                for (int i = 0; i < positions.size(); i++) {
+                    results.set(positions.get(i), (R) await(pending.get(i)));
+                }
+                return;
+            }
+            if (batchInvoker == null || positions.size() == 1) {
+                positions.forEach(position -> results.set(position, (R) dispatch(commands.get(position))));
+                return;
+            }
+            List<Command> group = new ArrayList<>(positions.size());
+            positions.forEach(position -> group.add(commands.get(position)));
+            List<R> groupResults = (List<R>) batchInvoker.invoke(new CommandBatch(commandType, group));
+            for (int i = 0; i < positions.size(); i++) {
+                results.set(positions.get(i), groupResults.get(i));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Runs the command off the caller thread. {@code onFinished} runs when the command has finished or will never
+     * start, not when the returned future times out or is cancelled while the command is still running.
+     */
+    private <C extends Command, R extends BaseAggregate> CompletableFuture<R> submitAsync(C command, Duration timeout, Runnable onFinished) {
+        if (command instanceof AggregateCommand aggregateCommand) {
+            CompletableFuture<R> result = (CompletableFuture<R>) (CompletableFuture<?>) commandMailboxes.submit(aggregateCommand, invokerFor(command), onFinished);
+            return timeout == null ? result : result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        CommandInvoker invoker = invokerFor(command);
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> task;
+        try {
+            task = commandExecutor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    if (!result.isDone()) {
+                        result.complete((R) invoker.invoke(command));
+                    }
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                } finally {
+                    onFinished.run();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            onFinished.run();
+            result.completeExceptionally(new ServiceApiOverloadedException("common.server.overloaded", commandMailboxes.retryAfter()));
+            return result;
+        }
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled() || throwable instanceof TimeoutException) {
+                if (started.compareAndSet(false, true)) {
+                    onFinished.run();
+                }
+                task.cancel(true);
+            }
+        });
+        if (timeout != null) {
+            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+
+    private CommandInvoker compose(List<CommandInterceptor> orderedInterceptors, Class<? extends Command> commandClass, CommandInvoker invoker) {
+        for (int i = orderedInterceptors.size() - 1; i >= 0; i--) {
+            invoker = orderedInterceptors.get(i).intercept(commandClass, invoker);
+        }
+        return invoker;
+    }
+
+    private Object dispatch(Command command) {
+        if (command instanceof AggregateCommand aggregateCommand) {
+            return await(submit(aggregateCommand));
+        }
+        return invokerFor(command).invoke(command);
+    }
+
+    private CompletableFuture<Object> submit(AggregateCommand command) {
+        return commandMailboxes.submit(command, invokerFor(command));
+    }
+
+    private static Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private CommandInvoker invokerFor(Command command) {
+        CommandInvoker invoker = invokers.get(command.getClass());
+        if (invoker == null) {
             throw new IllegalArgumentException("No handler registered for " + command.getClass().getName());
         }
+        return invoker;
     }
 }
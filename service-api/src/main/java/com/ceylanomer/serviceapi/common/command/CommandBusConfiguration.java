@@ -0,0 +1,23 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class CommandBusConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService commandExecutor(CommandBusProperties commandBusProperties) {
+        ExecutorService executor = switch (commandBusProperties.getExecutor()) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("command-", 0).factory());
+            case FIXED -> Executors.newFixedThreadPool(commandBusProperties.getPoolSize(), Thread.ofPlatform().name("command-", 0).factory());
+        };
+        var snapshotFactory = ContextSnapshotFactory.builder().build();
+        return ContextExecutorService.wrap(executor, snapshotFactory::captureAll);
+    }
+}
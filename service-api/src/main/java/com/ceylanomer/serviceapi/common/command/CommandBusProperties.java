@@ -0,0 +1,21 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.command-bus")
+public class CommandBusProperties {
+    private ExecutorType executor = ExecutorType.VIRTUAL;
+    private int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+    private int shards = Runtime.getRuntime().availableProcessors() * 2;
+    private int shardQueueCapacity = 1_000;
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public enum ExecutorType {
+        VIRTUAL,
+        FIXED
+    }
+}
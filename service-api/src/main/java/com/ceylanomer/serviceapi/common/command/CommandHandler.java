@@ -6,6 +6,11 @@ import com.ceylanomer.serviceapi.common.aggregate.DomainEventPublisher;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 @Setter
 @Slf4j
@@ -16,17 +21,38 @@ public abstract class CommandHandler<C extends Command, R extends BaseAggregate>
 
     protected abstract R handle(C command);
 
+    protected List<R> handleBatch(List<C> commands) {
+        List<R> aggregates = new ArrayList<>(commands.size());
+        commands.forEach(command -> aggregates.add(handle(command)));
+        return aggregates;
+    }
+
     public R process(C command) {
         return handleCommand(command);
     }
 
+    public List<R> processBatch(List<C> commands) {
+        List<R> aggregates = handleBatch(commands);
+        aggregates.forEach(this::publishEvents);
+        return aggregates;
+    }
+
+    public boolean supportsBatch() {
+        Method method = ReflectionUtils.findMethod(getClass(), "handleBatch", List.class);
+        return method != null && method.getDeclaringClass() != CommandHandler.class;
+    }
+
     protected R handleCommand(C command) {
         var aggregate = handle(command);
+        publishEvents(aggregate);
+        return aggregate;
+    }
+
+    private void publishEvents(R aggregate) {
         aggregate.getDomainEvents().forEach(event -> {
             if (event instanceof DomainEvent) {
                 domainEventPublisher.publish((DomainEvent) event);
             }
         });
-        return aggregate;
     }
 }
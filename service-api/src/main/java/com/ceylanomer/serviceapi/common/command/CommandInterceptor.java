@@ -0,0 +1,10 @@
+package com.ceylanomer.serviceapi.common.command;
+
+/**
+ * Middleware around command handlers. {@link #intercept} is called once per command type when the bus starts, so
+ * per-type state (meters, validators, tags) is resolved up front and the returned invoker runs on every command
+ * without further lookups. Return {@code next} unchanged to skip a command type. Ordering follows {@code @Order}.
+ */
+public interface CommandInterceptor {
+    CommandInvoker intercept(Class<? extends Command> commandType, CommandInvoker next);
+}
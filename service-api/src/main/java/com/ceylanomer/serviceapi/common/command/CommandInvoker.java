@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.common.command;
+
+@FunctionalInterface
+public interface CommandInvoker {
+    Object invoke(Command command);
+}
@@ -0,0 +1,160 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class CommandMailbox {
+    private final BlockingQueue<Envelope> queue;
+    private final Thread worker;
+    private final Counter coalescedCounter;
+    private volatile boolean running = true;
+
+    CommandMailbox(int shard, int capacity, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.coalescedCounter = meterRegistry.counter("command.mailbox.coalesced", "shard", String.valueOf(shard));
+        Gauge.builder("command.mailbox.depth", queue, BlockingQueue::size).tag("shard", String.valueOf(shard)).register(meterRegistry);
+        this.worker = Thread.ofPlatform().daemon().name("command-shard-" + shard).start(this::drain);
+    }
+
+    boolean offer(Envelope envelope) {
+        return running && queue.offer(envelope);
+    }
+
+    boolean isWorkerThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    void shutdown(Duration timeout) {
+        running = false;
+        try {
+            worker.join(timeout);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        worker.interrupt();
+    }
+
+    private void drain() {
+        List<Envelope> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    run(batch);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs a drained batch in order. A queued update that a later one for the same aggregate supersedes is held back
+     * until the later one's turn; only if the later one actually runs does the earlier one share its outcome.
+     */
+    private void run(List<Envelope> batch) {
+        Envelope[] supersededBy = new Envelope[batch.size()];
+        Map<String, Envelope> following = new HashMap<>();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Envelope envelope = batch.get(i);
+            Envelope next = following.put(envelope.command().aggregateId(), envelope);
+            if (next != null && !next.result().isDone() && envelope.command().coalescesWith(next.command())) {
+                supersededBy[i] = next;
+            }
+        }
+        Map<Envelope, List<Envelope>> heldBack = new IdentityHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Envelope envelope = batch.get(i);
+            List<Envelope> superseded = heldBack.remove(envelope);
+            if (supersededBy[i] != null) {
+                if (superseded == null) {
+                    superseded = new ArrayList<>();
+                }
+                superseded.add(envelope);
+                heldBack.put(supersededBy[i], superseded);
+            } else if (superseded == null) {
+                envelope.run();
+            } else {
+                superseded.add(envelope);
+                runLatest(superseded);
+            }
+        }
+    }
+
+    /**
+     * Runs the latest command of a chain of coalescable updates that still has a caller waiting and completes the
+     * earlier ones with its outcome. A later command that timed out or was cancelled in the queue never ran, so the
+     * one before it runs instead of copying its failure.
+     */
+    private void runLatest(List<Envelope> chain) {
+        for (int latest = chain.size() - 1; latest >= 0; latest--) {
+            Outcome outcome = chain.get(latest).run();
+            if (outcome != null) {
+                for (int i = 0; i < latest; i++) {
+                    coalescedCounter.increment();
+                    chain.get(i).complete(outcome);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * A queued command and its caller's future. {@code onFinished} runs once the command has run, been skipped or taken
+     * the outcome of a later command, which may be after {@code result} has timed out.
+     */
+    record Envelope(AggregateCommand command, CommandInvoker invoker, CompletableFuture<Object> result, ContextSnapshot snapshot,
+                    Runnable onFinished) {
+        /**
+         * Invokes the command unless its caller has stopped waiting. Returns the outcome of the invocation, which
+         * holds even if the result future times out while the command runs, or {@code null} if it was skipped.
+         */
+        Outcome run() {
+            if (result.isDone()) {
+                onFinished.run();
+                return null;
+            }
+            Outcome outcome;
+            try (ContextSnapshot.Scope scope = snapshot.setThreadLocals()) {
+                outcome = new Outcome(invoker.invoke(command), null);
+            } catch (Throwable throwable) {
+                outcome = new Outcome(null, throwable);
+            }
+            complete(outcome);
+            return outcome;
+        }
+
+        void complete(Outcome outcome) {
+            onFinished.run();
+            outcome.completeTo(result);
+        }
+    }
+
+    private record Outcome(Object value, Throwable failure) {
+        void completeTo(CompletableFuture<Object> future) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Routes {@link AggregateCommand}s to single-writer shards by aggregate id, so commands for one aggregate
+ * never run concurrently while different aggregates proceed in parallel.
+ */
+@Component
+public class CommandMailboxes {
+    private static final Runnable NOTHING = () -> {
+    };
+
+    private final CommandMailbox[] mailboxes;
+    private final Duration retryAfter;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    public CommandMailboxes(CommandBusProperties commandBusProperties, MeterRegistry meterRegistry) {
+        this.retryAfter = commandBusProperties.getRetryAfter();
+        this.mailboxes = new CommandMailbox[Math.max(1, commandBusProperties.getShards())];
+        for (int shard = 0; shard < mailboxes.length; shard++) {
+            mailboxes[shard] = new CommandMailbox(shard, commandBusProperties.getShardQueueCapacity(), meterRegistry);
+        }
+    }
+
+    public int shardOf(String aggregateId) {
+        int hash = aggregateId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), mailboxes.length);
+    }
+
+    /**
+     * How long a caller turned away by a full shard or a saturated executor should wait before retrying.
+     */
+    Duration retryAfter() {
+        return retryAfter;
+    }
+
+    CompletableFuture<Object> submit(AggregateCommand command, CommandInvoker invoker) {
+        return submit(command, invoker, NOTHING);
+    }
+
+    /**
+     * Submits a command and runs {@code onFinished} once it is no longer queued or running, which for a caller that
+     * timed out can be well after the returned future completed.
+     */
+    CompletableFuture<Object> submit(AggregateCommand command, CommandInvoker invoker, Runnable onFinished) {
+        int shard = shardOf(command.aggregateId());
+        var envelope = new CommandMailbox.Envelope(command, invoker, new CompletableFuture<>(), snapshotFactory.captureAll(), onFinished);
+        if (mailboxes[shard].isWorkerThread()) {
+            envelope.run();
+        } else if (!mailboxes[shard].offer(envelope)) {
+            onFinished.run();
+            envelope.result().completeExceptionally(new ServiceApiOverloadedException("common.server.overloaded", retryAfter));
+        }
+        return envelope.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (CommandMailbox mailbox : mailboxes) {
+            mailbox.shutdown(Duration.ofSeconds(5));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CommandMetricsInterceptor implements CommandInterceptor {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public CommandInvoker intercept(Class<? extends Command> commandType, CommandInvoker next) {
+        String command = commandType.getSimpleName();
+        Timer timer = Timer.builder("command.bus.duration")
+                .tag("command", command)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Timer batchTimer = Timer.builder("command.bus.batch.duration")
+                .tag("command", command)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return cmd -> {
+            long start = System.nanoTime();
+            try {
+                return next.invoke(cmd);
+            } catch (RuntimeException exception) {
+                meterRegistry.counter("command.bus.errors", "command", command, "exception", exception.getClass().getSimpleName()).increment();
+                throw exception;
+            } finally {
+                (cmd instanceof CommandBatch ? batchTimer : timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.ceylanomer.serviceapi.common.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps compressed bodies next to the plain bytes they were made from, keyed by content type and content hash, so a
+ * hot response that serializes to the same bytes is compressed once per encoding rather than on every hit. Entries
+ * are validated against the stored plain bytes, so hash collisions and stale data never leak into a response.
+ */
+@Component
+public class CompressedResponseCache {
+    private final Cache<Key, Variants> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CompressedResponseCache(CompressionProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getCache().getMaximumWeight().toBytes())
+                .weigher((Key key, Variants variants) -> variants.weight())
+                .expireAfterAccess(properties.getCache().getTtl())
+                .build();
+        this.hits = meterRegistry.counter("http.response.compression.cache", "result", "hit");
+        this.misses = meterRegistry.counter("http.response.compression.cache", "result", "miss");
+        Gauge.builder("http.response.compression.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .register(meterRegistry);
+    }
+
+    public byte[] compress(String contentType, byte[] plain, ContentEncoding encoding, UnaryOperator<byte[]> compressor) {
+        Key key = new Key(contentType, plain.length, Arrays.hashCode(plain));
+        Variants cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(plain)) {
+            byte[] compressed = cached.encoded().get(encoding);
+            if (compressed != null) {
+                hits.increment();
+                return compressed;
+            }
+        }
+        misses.increment();
+        byte[] compressed = compressor.apply(plain);
+        cache.asMap().compute(key, (k, current) -> current != null && current.matches(plain)
+                ? current.with(encoding, compressed)
+                : new Variants(plain, Map.of(encoding, compressed)));
+        return compressed;
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private record Key(String contentType, int length, int hash) {
+    }
+
+    private record Variants(byte[] plain, Map<ContentEncoding, byte[]> encoded) {
+        boolean matches(byte[] body) {
+            return Arrays.equals(plain, body);
+        }
+
+        Variants with(ContentEncoding encoding, byte[] compressed) {
+            Map<ContentEncoding, byte[]> copy = new EnumMap<>(encoded);
+            copy.put(encoding, compressed);
+            return new Variants(plain, copy);
+        }
+
+        int weight() {
+            int weight = plain.length;
+            for (byte[] compressed : encoded.values()) {
+                weight += compressed.length;
+            }
+            return weight;
+        }
+    }
+}
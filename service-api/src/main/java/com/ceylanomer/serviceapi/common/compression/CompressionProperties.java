@@ -0,0 +1,33 @@
+package com.ceylanomer.serviceapi.common.compression;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.compression")
+public class CompressionProperties {
+    private boolean enabled = true;
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+    private List<ContentEncoding> encodings = new ArrayList<>(List.of(ContentEncoding.ZSTD, ContentEncoding.GZIP));
+    private int gzipLevel = 5;
+    private int zstdLevel = 3;
+    private List<String> mimeTypes = new ArrayList<>(List.of("application/json", "application/*+json", "application/cbor",
+            "application/x-jackson-smile", "text/plain"));
+    private Cache cache = new Cache();
+
+    public int levelFor(ContentEncoding encoding) {
+        return encoding == ContentEncoding.ZSTD ? zstdLevel : gzipLevel;
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private DataSize maximumWeight = DataSize.ofMegabytes(64);
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
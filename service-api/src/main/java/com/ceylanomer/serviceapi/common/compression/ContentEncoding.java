@@ -0,0 +1,98 @@
+package com.ceylanomer.serviceapi.common.compression;
+
+import com.github.luben.zstd.Zstd;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+public enum ContentEncoding {
+    ZSTD("zstd") {
+        @Override
+        byte[] compress(byte[] plain, int level) {
+            return Zstd.compress(plain, level);
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        byte[] compress(byte[] plain, int level) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 4 + 64);
+            try (OutputStream gzip = new LevelledGzipOutputStream(out, level)) {
+                gzip.write(plain);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return out.toByteArray();
+        }
+    };
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    abstract byte[] compress(byte[] plain, int level);
+
+    /**
+     * Picks the encoding with the highest quality in an {@code Accept-Encoding} header. Ties go to the earlier entry
+     * of {@code preferred}, which is the server's preference order. Returns {@code null} when nothing matches.
+     */
+    @Nullable
+    public static ContentEncoding negotiate(@Nullable String acceptEncoding, List<ContentEncoding> preferred) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        ContentEncoding best = null;
+        double bestQuality = 0;
+        for (ContentEncoding encoding : preferred) {
+            double quality = quality(acceptEncoding, encoding.token);
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static double quality(String acceptEncoding, String token) {
+        double wildcard = 0;
+        for (String part : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] parameters = StringUtils.tokenizeToStringArray(part, ";");
+            String coding = parameters[0];
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                if (parameters[i].startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameters[i].substring(2));
+                    } catch (NumberFormatException exception) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase(token)) {
+                return quality;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+
+    private static final class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.ceylanomer.serviceapi.common.compression;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses response bodies with the best encoding the client accepts in {@code Accept-Encoding}. Bodies below
+ * the minimum size, non-compressible content types and streaming requests are passed through unchanged. Successful
+ * GET responses go through the {@link CompressedResponseCache} so repeated reads of a hot resource skip compression.
+ * Sits outside the idempotency filter so replayed responses are compressed too. A response is treated as a stream,
+ * and its output goes straight to the client whatever the {@code Accept} header said, once it is typed
+ * {@code text/event-stream} or {@code application/x-ndjson} or once the request has gone async (SSE emitters).
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+    private static final List<MediaType> STREAMING_TYPES = List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    private final CompressionProperties properties;
+    private final CompressedResponseCache cache;
+    private final MeterRegistry meterRegistry;
+    private final List<MediaType> mimeTypes;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    public ResponseCompressionFilter(CompressionProperties properties, CompressedResponseCache cache, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = cache;
+        this.meterRegistry = meterRegistry;
+        this.mimeTypes = properties.getMimeTypes().stream().map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "HEAD".equals(request.getMethod()) || acceptsStream(request);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        HttpServletResponse responseToUse = response;
+        if (!isAsyncDispatch(request) && !(response instanceof ContentCachingResponseWrapper)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            responseToUse = new StreamAwareResponseWrapper(response, request);
+        }
+        filterChain.doFilter(request, responseToUse);
+        if (!isAsyncStarted(request)) {
+            writeResponse(request, responseToUse);
+        }
+    }
+
+    private void writeResponse(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            return;
+        }
+        if (isStreaming(request, wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        String contentType = wrapper.getContentType();
+        ContentEncoding encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), properties.getEncodings());
+        if (encoding == null || body.length < properties.getMinResponseSize().toBytes() || !isCompressible(contentType)
+                || wrapper.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        boolean cacheable = properties.getCache().isEnabled() && "GET".equals(request.getMethod())
+                && wrapper.getStatus() == HttpStatus.OK.value();
+        byte[] compressed = cacheable
+                ? cache.compress(contentType, body, encoding, plain -> compress(encoding, plain))
+                : compress(encoding, body);
+        if (compressed.length >= body.length) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        HttpServletResponse rawResponse = (HttpServletResponse) wrapper.getResponse();
+        rawResponse.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        rawResponse.setContentLength(compressed.length);
+        rawResponse.getOutputStream().write(compressed);
+    }
+
+    private byte[] compress(ContentEncoding encoding, byte[] plain) {
+        long start = currentThreadTime();
+        byte[] compressed = encoding.compress(plain, properties.levelFor(encoding));
+        meterRegistry.timer("http.response.compression.time", "encoding", encoding.token())
+                .record(currentThreadTime() - start, TimeUnit.NANOSECONDS);
+        meterRegistry.summary("http.response.compression.ratio", "encoding", encoding.token())
+                .record((double) compressed.length / plain.length);
+        meterRegistry.counter("http.response.compression.bytes", "encoding", encoding.token(), "type", "plain").increment(plain.length);
+        meterRegistry.counter("http.response.compression.bytes", "encoding", encoding.token(), "type", "compressed").increment(compressed.length);
+        return compressed;
+    }
+
+    private long currentThreadTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private boolean isCompressible(@Nullable String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mimeTypes.stream().anyMatch(type -> type.includes(mediaType));
+        } catch (InvalidMediaTypeException exception) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(type -> STREAMING_TYPES.stream().anyMatch(type::equalsTypeAndSubtype));
+        } catch (InvalidMediaTypeException exception) {
+            return false;
+        }
+    }
+
+    private static boolean isStreaming(HttpServletRequest request, HttpServletResponse response) {
+        return request.isAsyncStarted() || isStreamingType(response.getContentType());
+    }
+
+    private static boolean isStreamingType(@Nullable String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return STREAMING_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException exception) {
+            return false;
+        }
+    }
+
+    private static final class StreamAwareResponseWrapper extends ContentCachingResponseWrapper {
+        private final HttpServletRequest request;
+
+        private StreamAwareResponseWrapper(HttpServletResponse response, HttpServletRequest request) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming(request, this) ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming(request, this) ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming(request, this)) {
+                copyBodyToResponse();
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ceylanomer.serviceapi.common.config;
+
+import com.ceylanomer.serviceapi.common.serialization.JsonHotTypes;
+import com.ceylanomer.serviceapi.common.serialization.OutputBufferPool;
+import com.ceylanomer.serviceapi.common.serialization.PrecompiledJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+@Configuration
+public class JacksonConfiguration {
+    private static final int BUFFER_POOL_SIZE = 256;
+    private static final int BUFFER_INITIAL_BYTES = 8 * 1024;
+    private static final int BUFFER_MAX_RETAINED_BYTES = 256 * 1024;
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public PrecompiledJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                     ObjectProvider<JsonHotTypes> hotTypes) {
+        List<Type> writeTypes = hotTypes.orderedStream().flatMap(types -> types.writeTypes().stream()).toList();
+        List<Type> readTypes = hotTypes.orderedStream().flatMap(types -> types.readTypes().stream()).toList();
+        return new PrecompiledJacksonHttpMessageConverter(objectMapper,
+                new OutputBufferPool(BUFFER_POOL_SIZE, BUFFER_INITIAL_BYTES, BUFFER_MAX_RETAINED_BYTES), writeTypes, readTypes);
+    }
+
+    /**
+     * Binary formats share the JSON mapper's modules and settings; they replace Spring's default converters in place,
+     * so they sit after JSON and are only chosen when the client asks for them through Accept or Content-Type.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
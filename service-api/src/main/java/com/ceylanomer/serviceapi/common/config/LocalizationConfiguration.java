@@ -9,10 +9,12 @@ import java.util.Locale;
 
 @Configuration
 public class LocalizationConfiguration implements WebMvcConfigurer {
+    public static final String[] MESSAGE_BASENAMES = {"i18n/commons", "i18n/serviceapi"};
+
     @Bean
     public ResourceBundleMessageSource messageSource() {
         ResourceBundleMessageSource source = new ResourceBundleMessageSource();
-        source.setBasenames("i18n/commons", "i18n/serviceapi");
+        source.setBasenames(MESSAGE_BASENAMES);
         source.setDefaultEncoding("UTF-8");
         Locale.setDefault(new Locale("en", "GB"));
         return source;
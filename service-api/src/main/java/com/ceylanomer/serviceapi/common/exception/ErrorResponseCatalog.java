@@ -0,0 +1,103 @@
+package com.ceylanomer.serviceapi.common.exception;
+
+import com.ceylanomer.serviceapi.common.config.LocalizationConfiguration;
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.common.response.ResponseBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Error responses for message keys, built once per key and bundle locale. Messages are stored as
+ * {@code code;description}. Argument-free lookups, which covers the not-found path, return a shared immutable
+ * response. Request locales are folded onto the locales that have bundles, the same way the resource bundle lookup
+ * falls back, so arbitrary {@code Accept-Language} values do not grow the cache.
+ */
+@Slf4j
+@Component
+public class ErrorResponseCatalog {
+    private final MessageSource messageSource;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+    private final Map<Locale, Map<String, Response<ErrorResponse>>> responses = new ConcurrentHashMap<>();
+    private volatile Set<Locale> bundleLocales = Set.of();
+
+    public ErrorResponseCatalog(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompute() {
+        try {
+            Set<Locale> locales = new HashSet<>();
+            Set<String> keys = new HashSet<>();
+            for (String basename : LocalizationConfiguration.MESSAGE_BASENAMES) {
+                String bundle = StringUtils.getFilename(basename);
+                for (Resource resource : resourceResolver.getResources("classpath*:" + basename + "*.properties")) {
+                    String filename = StringUtils.stripFilenameExtension(resource.getFilename());
+                    if (filename.startsWith(bundle + "_")) {
+                        locales.add(StringUtils.parseLocale(filename.substring(bundle.length() + 1)));
+                    }
+                    keys.addAll(PropertiesLoaderUtils.loadProperties(resource).stringPropertyNames());
+                }
+            }
+            bundleLocales = Set.copyOf(locales);
+            for (Locale locale : locales) {
+                keys.forEach(key -> get(key, locale));
+            }
+            log.info("Precomputed {} error responses for locales {}", keys.size() * locales.size(), locales);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Could not precompute error responses, they will be built on first use", exception);
+        }
+    }
+
+    public Response<ErrorResponse> get(String key, Locale locale, String... args) {
+        if (!ObjectUtils.isEmpty(args)) {
+            return toResponse(messageSource.getMessage(key, args, locale));
+        }
+        Set<Locale> locales = bundleLocales;
+        if (locales.isEmpty()) {
+            return toResponse(messageSource.getMessage(key, null, locale));
+        }
+        Locale bundleLocale = bundleLocale(locales, locale);
+        return responses.computeIfAbsent(bundleLocale, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> toResponse(messageSource.getMessage(k, null, bundleLocale)));
+    }
+
+    private static Locale bundleLocale(Set<Locale> locales, Locale locale) {
+        if (locales.contains(locale)) {
+            return locale;
+        }
+        Locale language = Locale.of(locale.getLanguage());
+        if (locales.contains(language)) {
+            return language;
+        }
+        Locale fallback = Locale.getDefault();
+        if (locales.contains(fallback)) {
+            return fallback;
+        }
+        return Locale.of(fallback.getLanguage());
+    }
+
+    private static Response<ErrorResponse> toResponse(String message) {
+        int separator = message.indexOf(';');
+        return separator < 0
+                ? ResponseBuilder.build(new ErrorResponse(message, null))
+                : ResponseBuilder.build(new ErrorResponse(message.substring(0, separator), message.substring(separator + 1)));
+    }
+}
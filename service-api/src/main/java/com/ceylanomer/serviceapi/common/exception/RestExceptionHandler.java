@@ -3,10 +3,17 @@ package com.ceylanomer.serviceapi.common.exception;
 import com.ceylanomer.serviceapi.common.controller.BaseController;
 import com.ceylanomer.serviceapi.common.response.ErrorResponse;
 import com.ceylanomer.serviceapi.common.response.Response;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
@@ -17,6 +24,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.nio.file.AccessDeniedException;
@@ -24,16 +32,14 @@ import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class RestExceptionHandler extends BaseController {
-    private final MessageSource messageSource;
+    private final ErrorResponseCatalog errorResponses;
 
-    public RestExceptionHandler(MessageSource messageSource) {
-        this.messageSource = messageSource;
+    public RestExceptionHandler(ErrorResponseCatalog errorResponses) {
+        this.errorResponses = errorResponses;
     }
 
     @ExceptionHandler(Exception.class)
@@ -43,80 +49,127 @@ public class RestExceptionHandler extends BaseController {
         return createErrorResponseFromMessageSource("common.system.error.occurred", locale);
     }
 
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsableException(AsyncRequestNotUsableException asyncRequestNotUsableException) {
+        // A streaming client went away; there is no response left to write to.
+        log.debug("Streaming client disconnected: {}", asyncRequestNotUsableException.getMessage());
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     @ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
     public Response<ErrorResponse> handleMethodNotSupportedException(HttpRequestMethodNotSupportedException methodNotSupportedException, Locale locale) {
-        log.error("HttpRequestMethodNotSupportedException occurred: ", methodNotSupportedException);
+        log.debug("Method not supported: {}", methodNotSupportedException.getMethod());
         return createErrorResponseFromMessageSource("common.client.methodNotSupported", locale);
     }
 
+    /**
+     * Jackson wraps exceptions raised while binding collection elements, so a size limit hit inside a batch body
+     * arrives here and is unwrapped to its 413.
+     */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<ErrorResponse> handleMessageNotReadableException(HttpMessageNotReadableException messageNotReadableException, Locale locale) {
-        log.error("Bad Request!", messageNotReadableException);
-        return createErrorResponseFromMessageSource("common.client.badRequest", locale);
+    public ResponseEntity<Response<ErrorResponse>> handleMessageNotReadableException(HttpMessageNotReadableException messageNotReadableException, Locale locale, HttpServletRequest request) {
+        ServiceApiPayloadTooLargeException tooLarge = payloadTooLargeCause(messageNotReadableException);
+        if (tooLarge != null) {
+            return handlePayloadTooLargeException(tooLarge, locale, request);
+        }
+        log.debug("Bad Request! {}", messageNotReadableException.getMessage());
+        return ResponseEntity.badRequest().body(createErrorResponseFromMessageSource("common.client.badRequest", locale));
+    }
+
+    @ExceptionHandler(ServiceApiPayloadTooLargeException.class)
+    public ResponseEntity<Response<ErrorResponse>> handlePayloadTooLargeException(ServiceApiPayloadTooLargeException payloadTooLargeException, Locale locale, HttpServletRequest request) {
+        log.debug("Request rejected, {} over the limit of {}", payloadTooLargeException.getArgs()[0], payloadTooLargeException.getArgs()[1]);
+        return jsonForNdjsonClients(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE), request)
+                .body(createErrorResponseFromMessageSource(payloadTooLargeException.getKey(), locale, payloadTooLargeException.getArgs()));
     }
 
     @ExceptionHandler(WebExchangeBindException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response<ErrorResponse> handleRequestPropertyBindingException(WebExchangeBindException webExchangeBindException, Locale locale) {
-        log.error("Bad Request!", webExchangeBindException);
+        log.debug("Bad Request! {} binding errors", webExchangeBindException.getErrorCount());
         return createFieldErrorResponse(webExchangeBindException.getBindingResult(), locale);
     }
 
     @ExceptionHandler(BindException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response<ErrorResponse> handleRequestPropertyBindingException(BindException bindException, Locale locale) {
-        log.error("Bad Request!", bindException);
+        log.debug("Bad Request! {} binding errors", bindException.getErrorCount());
         return createFieldErrorResponse(bindException.getBindingResult(), locale);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response<ErrorResponse> handleInvalidArgumentException(MethodArgumentNotValidException methodArgumentNotValidException, Locale locale) {
-        log.error("Bad Request!", methodArgumentNotValidException);
+        log.debug("Bad Request! {} validation errors", methodArgumentNotValidException.getErrorCount());
         return createFieldErrorResponse(methodArgumentNotValidException.getBindingResult(), locale);
     }
 
+    /**
+     * Raised by method validation on {@code @Validated} controllers, such as the elements of a batch body.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response<ErrorResponse> handleConstraintViolationException(ConstraintViolationException constraintViolationException, Locale locale) {
+        log.debug("Bad Request! {} constraint violations", constraintViolationException.getConstraintViolations().size());
+        ConstraintViolation<?> violation = constraintViolationException.getConstraintViolations().iterator().next();
+        String field = null;
+        for (Path.Node node : violation.getPropertyPath()) {
+            field = node.getName();
+        }
+        return createErrorResponseFromMessageSource(violation.getMessage(), locale, field);
+    }
+
     @ExceptionHandler(ServiceApiBusinessException.class)
     @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
     public Response<ErrorResponse> handleProjectSettingsApiBusinessException(ServiceApiBusinessException serviceApiBusinessException, Locale locale) {
-        log.error("Business exception occurred!", serviceApiBusinessException);
+        log.debug("Business exception occurred! {}", serviceApiBusinessException.getKey());
         return createErrorResponseFromMessageSource(serviceApiBusinessException.getKey(), locale, serviceApiBusinessException.getArgs());
     }
 
     @ExceptionHandler(ServiceApiDataNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response<ErrorResponse> handleProjectSettingsApiDataNotFoundException(ServiceApiDataNotFoundException serviceApiDataNotFoundException, Locale locale) {
-        log.error("Data not found exception is occurred", serviceApiDataNotFoundException);
+        log.debug("Data not found exception is occurred: {}", serviceApiDataNotFoundException.getKey());
         return createErrorResponseFromMessageSource(serviceApiDataNotFoundException.getKey(), locale, serviceApiDataNotFoundException.getArgs());
     }
 
+    @ExceptionHandler(ServiceApiOverloadedException.class)
+    public ResponseEntity<Response<ErrorResponse>> handleServiceApiOverloadedException(ServiceApiOverloadedException serviceApiOverloadedException, Locale locale, HttpServletRequest request) {
+        log.debug("Request rejected by concurrency limit");
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, serviceApiOverloadedException.getArgs()[0]);
+        if (acceptsOnly(request, MediaType.TEXT_EVENT_STREAM)) {
+            // An event-stream client has no use for a JSON body; status and Retry-After tell it when to reconnect.
+            return response.build();
+        }
+        return jsonForNdjsonClients(response, request).body(createErrorResponseFromMessageSource(serviceApiOverloadedException.getKey(), locale, serviceApiOverloadedException.getArgs()));
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response<ErrorResponse> handleNoSuchElementException(NoSuchElementException noSuchElementException, Locale locale) {
-        log.error("NoSuchElementException exception is occurred", noSuchElementException);
+        log.debug("NoSuchElementException exception is occurred: {}", noSuchElementException.getMessage());
         return createErrorResponseFromMessageSource("common.client.noSuchElement", locale);
     }
 
     @ExceptionHandler(EmptyResultDataAccessException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response<ErrorResponse> handleEmptyResultDataAccessException(EmptyResultDataAccessException emptyResultDataAccessException, Locale locale) {
-        log.error("EmptyResultDataAccessException exception is occurred", emptyResultDataAccessException);
+        log.debug("EmptyResultDataAccessException exception is occurred: {}", emptyResultDataAccessException.getMessage());
         return createErrorResponseFromMessageSource("common.client.EmptyResultDataAccess", locale);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
     public Response<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException methodArgumentTypeMismatchException, Locale locale) {
-        log.error("MethodArgumentTypeMismatchException occurred!", methodArgumentTypeMismatchException);
+        log.debug("MethodArgumentTypeMismatchException occurred for {}", methodArgumentTypeMismatchException.getName());
         return createErrorResponseFromMessageSource("common.client.typeMismatch", locale, methodArgumentTypeMismatchException.getName());
     }
 
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public Response<ErrorResponse> handleAccessDeniedException(AccessDeniedException accessDeniedException, Locale locale) {
-        log.error("AccessDeniedException occurred!", accessDeniedException);
+        log.debug("AccessDeniedException occurred! {}", accessDeniedException.getMessage());
         return createErrorResponseFromMessageSource("common.client.unauthorized", locale);
     }
 
@@ -127,21 +180,39 @@ public class RestExceptionHandler extends BaseController {
                 .orElse(new FieldError(bindingResult.getFieldErrors().get(0).getObjectName(),
                         bindingResult.getFieldErrors().get(0).getField(), "common.client.requiredField"));
 
-        List<String> requiredFieldErrorMessages = retrieveLocalizationMessage(fieldError.getDefaultMessage(), locale, fieldError.getField());
-        String code = requiredFieldErrorMessages.get(0);
-        String errorMessage = requiredFieldErrorMessages.get(1);
-        log.debug("Exception occurred while request validation: {}", errorMessage);
-        return respond(new ErrorResponse(code, errorMessage));
+        Response<ErrorResponse> response = errorResponses.get(fieldError.getDefaultMessage(), locale, fieldError.getField());
+        log.debug("Exception occurred while request validation: {}", response.getError().getDescription());
+        return response;
     }
 
-    private Response<ErrorResponse> createErrorResponseFromMessageSource(String key, Locale locale, String... args) {
-        List<String> messageList = retrieveLocalizationMessage(key, locale, args);
-        return respond(new ErrorResponse(messageList.get(0), messageList.get(1)));
+    /**
+     * No converter writes error bodies as NDJSON, but a single JSON document is a valid one-line stream, so clients of
+     * the streamed lookup get the error as JSON rather than a failed negotiation.
+     */
+    private static ResponseEntity.BodyBuilder jsonForNdjsonClients(ResponseEntity.BodyBuilder response, HttpServletRequest request) {
+        return acceptsOnly(request, MediaType.APPLICATION_NDJSON) ? response.contentType(MediaType.APPLICATION_JSON) : response;
+    }
+
+    private static boolean acceptsOnly(HttpServletRequest request, MediaType mediaType) {
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+            return !accepted.isEmpty() && accepted.stream().allMatch(mediaType::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException exception) {
+            return false;
+        }
+    }
+
+    private static ServiceApiPayloadTooLargeException payloadTooLargeCause(Throwable exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ServiceApiPayloadTooLargeException tooLarge) {
+                return tooLarge;
+            }
+        }
+        return null;
     }
 
-    private List<String> retrieveLocalizationMessage(String key, Locale locale, String... args) {
-        String message = messageSource.getMessage(key, args, locale);
-        return Pattern.compile(";").splitAsStream(message).collect(Collectors.toList());
+    private Response<ErrorResponse> createErrorResponseFromMessageSource(String key, Locale locale, String... args) {
+        return errorResponses.get(key, locale, args);
     }
 
 }
@@ -3,6 +3,9 @@ package com.ceylanomer.serviceapi.common.exception;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * Business rule violation answered with 422. It is an expected outcome rather than a fault, so it carries no stack trace.
+ */
 @Getter
 @Setter
 public class ServiceApiBusinessException extends RuntimeException {
@@ -10,13 +13,13 @@ public class ServiceApiBusinessException extends RuntimeException {
     private final String[] args;
 
     public ServiceApiBusinessException(String key) {
-        super(key);
+        super(key, null, false, false);
         this.key = key;
         args = new String[0];
     }
 
     public ServiceApiBusinessException(String key, String... args) {
-        super(key);
+        super(key, null, false, false);
         this.key = key;
         this.args = args;
     }
@@ -3,6 +3,9 @@ package com.ceylanomer.serviceapi.common.exception;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * Raised for missing data on hot read paths. The stack trace is skipped, so a 404 costs about as much as a hit.
+ */
 @Getter
 @Setter
 public class ServiceApiDataNotFoundException extends RuntimeException {
@@ -10,13 +13,13 @@ public class ServiceApiDataNotFoundException extends RuntimeException {
     private final String[] args;
 
     public ServiceApiDataNotFoundException(String key) {
-        super(key);
+        super(key, null, false, false);
         this.key = key;
         args = new String[0];
     }
 
     public ServiceApiDataNotFoundException(String key, String... args) {
-        super(key);
+        super(key, null, false, false);
         this.key = key;
         this.args = args;
     }
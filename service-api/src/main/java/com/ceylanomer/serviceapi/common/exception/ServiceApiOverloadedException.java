@@ -0,0 +1,22 @@
+package com.ceylanomer.serviceapi.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed under load; stackless because rejections are frequent by design.
+ */
+@Getter
+public class ServiceApiOverloadedException extends RuntimeException {
+    private final String key;
+    private final String[] args;
+    private final Duration retryAfter;
+
+    public ServiceApiOverloadedException(String key, Duration retryAfter) {
+        super(key, null, false, false);
+        this.key = key;
+        this.retryAfter = retryAfter;
+        this.args = new String[]{String.valueOf(Math.max(1, retryAfter.toSeconds()))};
+    }
+}
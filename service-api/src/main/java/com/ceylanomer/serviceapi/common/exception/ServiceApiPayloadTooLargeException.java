@@ -0,0 +1,19 @@
+package com.ceylanomer.serviceapi.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown while reading a request body that goes over one of its size limits; it is raised mid-parse, so it skips the
+ * stack trace like the other expected client errors.
+ */
+@Getter
+public class ServiceApiPayloadTooLargeException extends RuntimeException {
+    private final String key;
+    private final String[] args;
+
+    public ServiceApiPayloadTooLargeException(String limit, long maximum) {
+        super("common.client.payloadTooLarge", null, false, false);
+        this.key = "common.client.payloadTooLarge";
+        this.args = new String[]{limit, String.valueOf(maximum)};
+    }
+}
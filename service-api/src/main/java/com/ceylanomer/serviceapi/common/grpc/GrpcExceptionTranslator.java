@@ -0,0 +1,77 @@
+package com.ceylanomer.serviceapi.common.grpc;
+
+import com.ceylanomer.serviceapi.common.exception.ErrorResponseCatalog;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiBusinessException;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * gRPC counterpart of the REST exception handler: maps the same exceptions onto status codes and describes them with
+ * the same catalogued error code and message, which travel as the status description and the
+ * {@value #ERROR_CODE_HEADER} trailer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrpcExceptionTranslator {
+    public static final String ERROR_CODE_HEADER = "error-code";
+    public static final Metadata.Key<String> ERROR_CODE_KEY = Metadata.Key.of(ERROR_CODE_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> RETRY_AFTER_KEY = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final ErrorResponseCatalog errorResponses;
+
+    public StatusRuntimeException translate(Throwable exception) {
+        if (exception instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        ErrorResponse error = describe(exception);
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE_KEY, error.getCode());
+        if (exception instanceof ServiceApiOverloadedException overloaded) {
+            trailers.put(RETRY_AFTER_KEY, overloaded.getArgs()[0]);
+        }
+        return status(exception).withDescription(error.getDescription()).asRuntimeException(trailers);
+    }
+
+    public ErrorResponse describe(Throwable exception) {
+        return switch (exception) {
+            case ServiceApiDataNotFoundException notFound -> error(notFound.getKey(), notFound.getArgs());
+            case ServiceApiBusinessException business -> error(business.getKey(), business.getArgs());
+            case ServiceApiPayloadTooLargeException tooLarge -> error(tooLarge.getKey(), tooLarge.getArgs());
+            case ServiceApiOverloadedException overloaded -> error(overloaded.getKey(), overloaded.getArgs());
+            case IllegalArgumentException illegalArgument -> {
+                log.debug("Bad gRPC request: {}", illegalArgument.getMessage());
+                yield error("common.client.badRequest");
+            }
+            default -> {
+                log.error("An error occurred in a gRPC call! Details: ", exception);
+                yield error("common.system.error.occurred");
+            }
+        };
+    }
+
+    private static Status status(Throwable exception) {
+        return switch (exception) {
+            case ServiceApiDataNotFoundException ignored -> Status.NOT_FOUND;
+            case ServiceApiBusinessException ignored -> Status.FAILED_PRECONDITION;
+            case ServiceApiPayloadTooLargeException ignored -> Status.RESOURCE_EXHAUSTED;
+            case ServiceApiOverloadedException ignored -> Status.UNAVAILABLE;
+            case IllegalArgumentException ignored -> Status.INVALID_ARGUMENT;
+            default -> Status.INTERNAL;
+        };
+    }
+
+    private ErrorResponse error(String key, String... args) {
+        return errorResponses.get(key, Locale.getDefault(), args).getError();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ceylanomer.serviceapi.common.grpc;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.common.limit.LoadSheddingInterceptor;
+import com.ceylanomer.serviceapi.common.limit.PriorityLoadShedder;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Puts gRPC calls through the same {@link PriorityLoadShedder} lanes as REST requests. Unary calls count as single
+ * reads, server streams as batch reads and client or bidirectional streams as bulk work; the
+ * {@value LoadSheddingInterceptor#TRAFFIC_CLASS_HEADER} header can only lower that class. The admission is held until
+ * the call completes or is cancelled.
+ */
+@Component
+@RequiredArgsConstructor
+public class GrpcLoadSheddingInterceptor implements ServerInterceptor {
+    private static final Metadata.Key<String> TRAFFIC_CLASS_KEY =
+            Metadata.Key.of(LoadSheddingInterceptor.TRAFFIC_CLASS_HEADER.toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER);
+
+    private final PriorityLoadShedder priorityLoadShedder;
+    private final GrpcExceptionTranslator grpcExceptionTranslator;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        PriorityLoadShedder.Admission admission;
+        try {
+            admission = priorityLoadShedder.admit(classify(call.getMethodDescriptor(), headers));
+        } catch (ServiceApiOverloadedException exception) {
+            StatusRuntimeException rejection = grpcExceptionTranslator.translate(exception);
+            call.close(rejection.getStatus(), rejection.getTrailers());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        try {
+            return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+                @Override
+                public void onComplete() {
+                    try {
+                        super.onComplete();
+                    } finally {
+                        admission.close();
+                    }
+                }
+
+                @Override
+                public void onCancel() {
+                    try {
+                        super.onCancel();
+                    } finally {
+                        admission.close();
+                    }
+                }
+            };
+        } catch (RuntimeException exception) {
+            admission.close();
+            throw exception;
+        }
+    }
+
+    static TrafficClass classify(MethodDescriptor<?, ?> method, Metadata headers) {
+        TrafficClass trafficClass = switch (method.getType()) {
+            case UNARY -> TrafficClass.SINGLE_READ;
+            case SERVER_STREAMING -> TrafficClass.BATCH_READ;
+            default -> TrafficClass.BULK;
+        };
+        return trafficClass.lowerOf(TrafficClass.fromTagValue(headers.get(TRAFFIC_CLASS_KEY)));
+    }
+}
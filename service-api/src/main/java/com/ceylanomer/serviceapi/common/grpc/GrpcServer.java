@@ -0,0 +1,100 @@
+package com.ceylanomer.serviceapi.common.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.protobuf.services.ProtoReflectionServiceV1;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC endpoints on their own HTTP/2 port next to the web server, and only when a real web server starts,
+ * so mock web environments in tests do not bind it. Calls run on virtual threads because the handlers block on the
+ * command and query buses.
+ */
+@Slf4j
+@Component
+public class GrpcServer {
+    private final GrpcServerProperties properties;
+    private final ObjectProvider<BindableService> services;
+    private final ObjectProvider<ServerInterceptor> interceptors;
+    private final HealthStatusManager health = new HealthStatusManager();
+    private Server server;
+    private ExecutorService executor;
+
+    public GrpcServer(GrpcServerProperties properties, ObjectProvider<BindableService> services, ObjectProvider<ServerInterceptor> interceptors) {
+        this.properties = properties;
+        this.services = services;
+        this.interceptors = interceptors;
+    }
+
+    @EventListener(WebServerInitializedEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || server != null) {
+            return;
+        }
+        executor = ContextExecutorService.wrap(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-", 0).factory()),
+                ContextSnapshotFactory.builder().build()::captureAll);
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.getPort())
+                .executor(executor)
+                .maxInboundMessageSize(Math.toIntExact(properties.getMaxInboundMessageSize().toBytes()))
+                .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection())
+                .permitKeepAliveTime(properties.getPermitKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                .addService(health.getHealthService());
+        List<ServerInterceptor> ordered = interceptors.orderedStream().toList().reversed();
+        services.orderedStream().forEach(service -> builder.addService(ServerInterceptors.intercept(service, ordered)));
+        if (properties.isReflectionEnabled()) {
+            builder.addService(ProtoReflectionServiceV1.newInstance());
+        }
+        try {
+            server = builder.build().start();
+        } catch (IOException exception) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Could not start the gRPC server on port " + properties.getPort(), exception);
+        }
+        health.setStatus("", HealthCheckResponse.ServingStatus.SERVING);
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    public synchronized int port() {
+        return server != null ? server.getPort() : -1;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        health.enterTerminalState();
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(properties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC calls still running after {}, cancelling them", properties.getShutdownGracePeriod());
+                server.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        executor.shutdown();
+        server = null;
+    }
+}
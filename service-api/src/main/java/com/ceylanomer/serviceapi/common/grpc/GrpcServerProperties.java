@@ -0,0 +1,26 @@
+package com.ceylanomer.serviceapi.common.grpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.grpc")
+public class GrpcServerProperties {
+    private boolean enabled = true;
+    private int port = 9090;
+    private DataSize maxInboundMessageSize = DataSize.ofMegabytes(16);
+    /**
+     * HTTP/2 streams a single client connection may have open at once.
+     */
+    private int maxConcurrentCallsPerConnection = 1_000;
+    private Duration permitKeepAliveTime = Duration.ofSeconds(30);
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+    private boolean reflectionEnabled = true;
+    /**
+     * Streamed create requests collected into one command batch.
+     */
+    private int bulkChunkSize = 500;
+}
@@ -0,0 +1,163 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.common.response.ResponseBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POST, PUT, PATCH and DELETE requests carrying an {@code Idempotency-Key} header safe to retry.
+ * The first request with a key runs normally and its response is stored. Later requests with the same key
+ * receive the stored response without reaching the controller. Duplicates that arrive while the first
+ * request is still running wait for it. 5xx responses are not stored, so the client can retry them. A key
+ * is bound to the method, URI and a SHA-256 of the body; reusing it for a different request is rejected.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<IdempotentResponse>> executions = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !METHODS.contains(request.getMethod()) || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String target = request.getMethod() + " " + request.getRequestURI();
+        long deadline = System.nanoTime() + idempotencyProperties.getWaitTimeout().toNanos();
+
+        while (true) {
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> first = executions.putIfAbsent(key, execution);
+            if (first == null) {
+                try {
+                    execute(key, target, deadline, request, response, filterChain, execution);
+                } finally {
+                    executions.remove(key, execution);
+                    execution.completeExceptionally(new CancellationException());
+                }
+                return;
+            }
+            try {
+                IdempotentResponse outcome = first.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                replay(key, target, outcome, request, response);
+                return;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                conflict(key, request, response);
+                return;
+            } catch (TimeoutException exception) {
+                conflict(key, request, response);
+                return;
+            } catch (ExecutionException | CancellationException exception) {
+                // the first execution failed without a response, so this request takes over
+            }
+        }
+    }
+
+    private void execute(String key, String target, long deadline, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, CompletableFuture<IdempotentResponse> execution) throws ServletException, IOException {
+        IdempotentResponse stored = idempotencyStore.find(key);
+        if (stored == null && !idempotencyStore.tryAcquire(key, target)) {
+            stored = idempotencyStore.await(key, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            if (stored == null) {
+                conflict(key, request, response);
+                return;
+            }
+        }
+        if (stored != null) {
+            execution.complete(stored);
+            replay(key, target, stored, request, response);
+            return;
+        }
+
+        BodyDigestingRequest requestWrapper = new BodyDigestingRequest(request);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        String fingerprint;
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+            fingerprint = target + " " + requestWrapper.finish();
+        } catch (ServletException | IOException | RuntimeException exception) {
+            idempotencyStore.release(key);
+            throw exception;
+        }
+        IdempotentResponse outcome = new IdempotentResponse(fingerprint, responseWrapper.getStatus(),
+                responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+        if (HttpStatus.valueOf(outcome.status()).is5xxServerError()) {
+            idempotencyStore.release(key);
+        } else {
+            idempotencyStore.complete(key, outcome);
+        }
+        execution.complete(outcome);
+        meterRegistry.counter("idempotency.requests", "outcome", "executed").increment();
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(String key, String target, IdempotentResponse stored, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String fingerprint = target + " " + BodyDigestingRequest.digest(request.getInputStream());
+        // Records stored before bodies were hashed carry only the method and URI.
+        if (!fingerprint.equals(stored.fingerprint()) && !target.equals(stored.fingerprint())) {
+            meterRegistry.counter("idempotency.requests", "outcome", "mismatch").increment();
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "idempotency.key.mismatch", request.getLocale(), key);
+            return;
+        }
+        meterRegistry.counter("idempotency.requests", "outcome", "replayed").increment();
+        response.setStatus(stored.status());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void conflict(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("Request with idempotency key {} is still in progress", key);
+        meterRegistry.counter("idempotency.requests", "outcome", "conflict").increment();
+        writeError(response, HttpStatus.CONFLICT, "idempotency.key.inProgress", request.getLocale(), key);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String messageKey, Locale locale, String key) throws IOException {
+        String[] message = messageSource.getMessage(messageKey, new Object[]{key}, locale).split(";", 2);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ResponseBuilder.build(new ErrorResponse(message[0], message[1])));
+    }
+}
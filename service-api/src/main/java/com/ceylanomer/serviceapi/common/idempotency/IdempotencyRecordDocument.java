@@ -0,0 +1,39 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecordDocument {
+    @Id
+    private String key;
+    @Field(value = "fingerprint")
+    private String fingerprint;
+    @Field(value = "state")
+    private IdempotencyState state;
+    @Field(value = "status")
+    private int status;
+    @Field(value = "contentType")
+    private String contentType;
+    @Field(value = "body")
+    private byte[] body;
+    @Field(value = "createdDate")
+    private Date createdDate;
+    @Field(value = "expiresAt")
+    private Date expiresAt;
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(fingerprint, status, contentType, body);
+    }
+}
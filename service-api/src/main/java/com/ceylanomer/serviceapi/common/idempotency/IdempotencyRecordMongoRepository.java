@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface IdempotencyRecordMongoRepository extends MongoRepository<IdempotencyRecordDocument, String> {
+}
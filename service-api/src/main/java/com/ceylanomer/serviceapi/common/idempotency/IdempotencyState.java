@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+public enum IdempotencyState {
+    IN_PROGRESS,
+    COMPLETED
+}
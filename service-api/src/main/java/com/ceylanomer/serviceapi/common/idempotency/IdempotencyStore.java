@@ -0,0 +1,111 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private final IdempotencyRecordMongoRepository idempotencyRecordMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final IdempotencyProperties idempotencyProperties;
+    private final Cache<String, IdempotentResponse> completed;
+
+    public IdempotencyStore(IdempotencyRecordMongoRepository idempotencyRecordMongoRepository, MongoTemplate mongoTemplate,
+                            IdempotencyProperties idempotencyProperties) {
+        this.idempotencyRecordMongoRepository = idempotencyRecordMongoRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.idempotencyProperties = idempotencyProperties;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getCacheSize())
+                .expireAfterWrite(idempotencyProperties.getTtl())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureExpiryIndex() {
+        try {
+            mongoTemplate.indexOps(IdempotencyRecordDocument.class)
+                    .createIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        } catch (RuntimeException exception) {
+            log.warn("Could not create expiry index for idempotency keys", exception);
+        }
+    }
+
+    public IdempotentResponse find(String key) {
+        IdempotentResponse response = completed.getIfPresent(key);
+        if (response != null) {
+            return response;
+        }
+        return idempotencyRecordMongoRepository.findById(key)
+                .filter(record -> record.getState() == IdempotencyState.COMPLETED)
+                .map(this::cache)
+                .orElse(null);
+    }
+
+    public boolean tryAcquire(String key, String fingerprint) {
+        Instant now = Instant.now();
+        try {
+            idempotencyRecordMongoRepository.insert(IdempotencyRecordDocument.builder()
+                    .key(key)
+                    .fingerprint(fingerprint)
+                    .state(IdempotencyState.IN_PROGRESS)
+                    .createdDate(Date.from(now))
+                    .expiresAt(Date.from(now.plus(idempotencyProperties.getLockTimeout())))
+                    .build());
+            return true;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+
+    public IdempotentResponse await(String key, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            IdempotentResponse response = find(key);
+            if (response != null) {
+                return response;
+            }
+            LockSupport.parkNanos(idempotencyProperties.getPollInterval().toNanos());
+        }
+        return null;
+    }
+
+    public void complete(String key, IdempotentResponse response) {
+        Instant now = Instant.now();
+        idempotencyRecordMongoRepository.save(IdempotencyRecordDocument.builder()
+                .key(key)
+                .fingerprint(response.fingerprint())
+                .state(IdempotencyState.COMPLETED)
+                .status(response.status())
+                .contentType(response.contentType())
+                .body(response.body())
+                .createdDate(Date.from(now))
+                .expiresAt(Date.from(now.plus(idempotencyProperties.getTtl())))
+                .build());
+        completed.put(key, response);
+    }
+
+    public void release(String key) {
+        idempotencyRecordMongoRepository.deleteById(key);
+    }
+
+    private IdempotentResponse cache(IdempotencyRecordDocument record) {
+        IdempotentResponse response = record.toResponse();
+        completed.put(record.getKey(), response);
+        return response;
+    }
+}
@@ -0,0 +1,4 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
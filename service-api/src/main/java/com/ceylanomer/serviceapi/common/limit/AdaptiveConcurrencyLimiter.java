@@ -0,0 +1,110 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gradient concurrency limiter. A fast moving average of request latency is compared with a slow baseline.
+ * While latency stays within {@code tolerance} of the baseline, the limit grows by about sqrt(limit). When
+ * latency rises, the limit shrinks in proportion, by at most half per sample. Requests beyond the limit fail
+ * fast instead of queueing. The averages and the limit form one immutable estimate that each sample replaces with
+ * a compare-and-set, so completing requests never wait on each other.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double SHORT_RTT_ALPHA = 0.5;
+    private static final double LONG_RTT_ALPHA = 2.0 / 601;
+
+    private final ConcurrencyLimitProperties.Settings settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private final AtomicReference<Estimate> estimate;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties.Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.estimate = new AtomicReference<>(new Estimate(
+                Math.clamp(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit()), 0, 0));
+        this.rejectedCounter = meterRegistry.counter("concurrency.limit.rejected", "limiter", name);
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit).tag("limiter", name).register(meterRegistry);
+        Gauge.builder("concurrency.limit.in.flight", inFlight, AtomicInteger::get).tag("limiter", name).register(meterRegistry);
+    }
+
+    public Permit acquire() {
+        if (settings.isEnabled()) {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= getLimit()) {
+                    rejectedCounter.increment();
+                    throw new ServiceApiOverloadedException("common.server.overloaded", settings.getRetryAfter());
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+        } else {
+            inFlight.incrementAndGet();
+        }
+        return new Permit(System.nanoTime());
+    }
+
+    public int getLimit() {
+        return estimate.get().limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    void onSample(long rttNanos, int inFlightAtStart) {
+        Estimate current;
+        do {
+            current = estimate.get();
+        } while (!estimate.compareAndSet(current, current.next(rttNanos, inFlightAtStart, settings)));
+    }
+
+    private record Estimate(double estimatedLimit, double shortRtt, double longRtt) {
+        int limit() {
+            return (int) estimatedLimit;
+        }
+
+        Estimate next(long rttNanos, int inFlightAtStart, ConcurrencyLimitProperties.Settings settings) {
+            double shortRtt = this.longRtt == 0 ? rttNanos : this.shortRtt;
+            double longRtt = this.longRtt == 0 ? rttNanos : this.longRtt;
+            shortRtt += (rttNanos - shortRtt) * SHORT_RTT_ALPHA;
+            longRtt += (rttNanos - longRtt) * LONG_RTT_ALPHA;
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+            if (inFlightAtStart < estimatedLimit / 2) {
+                return new Estimate(estimatedLimit, shortRtt, longRtt);
+            }
+            double gradient = Math.clamp(settings.getTolerance() * longRtt / shortRtt, 0.5, 1.0);
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            return new Estimate(Math.clamp(estimatedLimit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing(),
+                    settings.getMinLimit(), settings.getMaxLimit()), shortRtt, longRtt);
+        }
+    }
+
+    public final class Permit implements AutoCloseable {
+        private final long start;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(long start) {
+            this.start = start;
+            this.inFlightAtStart = inFlight.get();
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - start, inFlightAtStart);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private Settings read = new Settings(50);
+    private Settings write = new Settings(20);
+
+    @Data
+    public static class Settings {
+        private boolean enabled = true;
+        private int initialLimit;
+        private int minLimit = 4;
+        private int maxLimit = 500;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public Settings() {
+            this(20);
+        }
+
+        public Settings(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+    }
+}
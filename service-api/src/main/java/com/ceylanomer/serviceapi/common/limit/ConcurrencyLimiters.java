@@ -0,0 +1,23 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConcurrencyLimiters {
+    private final AdaptiveConcurrencyLimiter read;
+    private final AdaptiveConcurrencyLimiter write;
+
+    public ConcurrencyLimiters(ConcurrencyLimitProperties concurrencyLimitProperties, MeterRegistry meterRegistry) {
+        this.read = new AdaptiveConcurrencyLimiter("read", concurrencyLimitProperties.getRead(), meterRegistry);
+        this.write = new AdaptiveConcurrencyLimiter("write", concurrencyLimitProperties.getWrite(), meterRegistry);
+    }
+
+    public AdaptiveConcurrencyLimiter read() {
+        return read;
+    }
+
+    public AdaptiveConcurrencyLimiter write() {
+        return write;
+    }
+}
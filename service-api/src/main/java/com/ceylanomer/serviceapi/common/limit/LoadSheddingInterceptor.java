@@ -0,0 +1,65 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Classifies each API request and holds its {@link PriorityLoadShedder} admission until the request completes.
+ * Reads default to {@link TrafficClass#SINGLE_READ} and everything else to {@link TrafficClass#WRITE} unless the
+ * handler carries {@link Traffic}. Callers may lower, but never raise, their class with {@value #TRAFFIC_CLASS_HEADER}.
+ * Streaming responses give their admission back once the handler returns, since an open stream holds no worker.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadSheddingInterceptor implements AsyncHandlerInterceptor {
+    public static final String TRAFFIC_CLASS_HEADER = "X-Traffic-Class";
+    private static final String ADMISSION_ATTRIBUTE = LoadSheddingInterceptor.class.getName() + ".admission";
+
+    private final PriorityLoadShedder priorityLoadShedder;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) == null) {
+            request.setAttribute(ADMISSION_ATTRIBUTE, priorityLoadShedder.admit(classify(request, handler)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The attribute stays so the async dispatch that ends the stream is not admitted again.
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) instanceof PriorityLoadShedder.Admission admission) {
+            admission.close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) instanceof PriorityLoadShedder.Admission admission) {
+            admission.close();
+            request.removeAttribute(ADMISSION_ATTRIBUTE);
+        }
+    }
+
+    TrafficClass classify(HttpServletRequest request, Object handler) {
+        TrafficClass trafficClass = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? TrafficClass.SINGLE_READ
+                : TrafficClass.WRITE;
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Traffic traffic = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Traffic.class);
+            if (traffic == null) {
+                traffic = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Traffic.class);
+            }
+            if (traffic != null) {
+                trafficClass = traffic.value();
+            }
+        }
+        return trafficClass.lowerOf(TrafficClass.fromTagValue(request.getHeader(TRAFFIC_CLASS_HEADER)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.load-shedding")
+public class LoadSheddingProperties {
+    private boolean enabled = true;
+    private int capacity = 200;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Settings singleRead = new Settings(150, 400, Duration.ofMillis(250), 1.0);
+    private Settings write = new Settings(80, 200, Duration.ofSeconds(1), 0.9);
+    private Settings batchRead = new Settings(60, 100, Duration.ofSeconds(1), 0.75);
+    private Settings bulk = new Settings(10, 20, Duration.ofSeconds(5), 0.5);
+
+    public Settings settingsFor(TrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case SINGLE_READ -> singleRead;
+            case WRITE -> write;
+            case BATCH_READ -> batchRead;
+            case BULK -> bulk;
+        };
+    }
+
+    @Data
+    public static class Settings {
+        private int maxConcurrent;
+        private int maxQueued;
+        private Duration maxQueueTime;
+        private double admissionShare;
+
+        public Settings() {
+            this(50, 100, Duration.ofSeconds(1), 1.0);
+        }
+
+        public Settings(int maxConcurrent, int maxQueued, Duration maxQueueTime, double admissionShare) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxQueueTime = maxQueueTime;
+            this.admissionShare = admissionShare;
+        }
+    }
+}
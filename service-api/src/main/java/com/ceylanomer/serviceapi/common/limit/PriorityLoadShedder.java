@@ -0,0 +1,132 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests per {@link TrafficClass}. Every class has its own bounded permits and wait queue, so a bulk job
+ * can only ever hold its own share of request threads and Mongo connections. On top of that a class is only
+ * admitted while the total in flight stays below its {@code admissionShare} of the capacity, which keeps the top
+ * of the capacity free for interactive reads and sheds the lowest classes first when the instance fills up.
+ */
+@Component
+public class PriorityLoadShedder {
+    private final LoadSheddingProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<TrafficClass, Lane> lanes = new EnumMap<>(TrafficClass.class);
+
+    public PriorityLoadShedder(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            lanes.put(trafficClass, new Lane(trafficClass, properties.settingsFor(trafficClass), meterRegistry));
+        }
+        Gauge.builder("load.shedding.in.flight", inFlight, AtomicInteger::get).tag("class", "all").register(meterRegistry);
+    }
+
+    public Admission admit(TrafficClass trafficClass) {
+        Lane lane = lanes.get(trafficClass);
+        if (!properties.isEnabled()) {
+            return lane.admitted(false);
+        }
+        if (inFlight.get() >= properties.getCapacity() * lane.settings.getAdmissionShare()) {
+            throw lane.shed(lane.rejectedByPriority);
+        }
+        if (!lane.permits.hasQueuedThreads() && lane.permits.tryAcquire()) {
+            lane.queueTime.record(0, TimeUnit.NANOSECONDS);
+            return lane.admitted(true);
+        }
+        if (lane.waiting.incrementAndGet() > lane.settings.getMaxQueued()) {
+            lane.waiting.decrementAndGet();
+            throw lane.shed(lane.rejectedQueueFull);
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lane.permits.tryAcquire(lane.settings.getMaxQueueTime().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            lane.waiting.decrementAndGet();
+            lane.queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            throw lane.shed(lane.rejectedTimeout);
+        }
+        return lane.admitted(true);
+    }
+
+    public final class Admission implements AutoCloseable {
+        private final Lane lane;
+        private final boolean holdsPermit;
+        private boolean released;
+
+        private Admission(Lane lane, boolean holdsPermit) {
+            this.lane = lane;
+            this.holdsPermit = holdsPermit;
+        }
+
+        public TrafficClass trafficClass() {
+            return lane.trafficClass;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inFlight.decrementAndGet();
+            lane.inFlight.decrementAndGet();
+            if (holdsPermit) {
+                lane.permits.release();
+            }
+        }
+    }
+
+    private final class Lane {
+        private final TrafficClass trafficClass;
+        private final LoadSheddingProperties.Settings settings;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Timer queueTime;
+        private final Counter rejectedByPriority;
+        private final Counter rejectedQueueFull;
+        private final Counter rejectedTimeout;
+
+        private Lane(TrafficClass trafficClass, LoadSheddingProperties.Settings settings, MeterRegistry meterRegistry) {
+            String tag = trafficClass.tagValue();
+            this.trafficClass = trafficClass;
+            this.settings = settings;
+            this.permits = new Semaphore(settings.getMaxConcurrent(), true);
+            this.queueTime = Timer.builder("load.shedding.queue.time").tag("class", tag).register(meterRegistry);
+            this.rejectedByPriority = meterRegistry.counter("load.shedding.rejected", "class", tag, "reason", "priority");
+            this.rejectedQueueFull = meterRegistry.counter("load.shedding.rejected", "class", tag, "reason", "queue-full");
+            this.rejectedTimeout = meterRegistry.counter("load.shedding.rejected", "class", tag, "reason", "timeout");
+            Gauge.builder("load.shedding.in.flight", inFlight, AtomicInteger::get).tag("class", tag).register(meterRegistry);
+            Gauge.builder("load.shedding.queued", waiting, AtomicInteger::get).tag("class", tag).register(meterRegistry);
+        }
+
+        private Admission admitted(boolean holdsPermit) {
+            PriorityLoadShedder.this.inFlight.incrementAndGet();
+            inFlight.incrementAndGet();
+            return new Admission(this, holdsPermit);
+        }
+
+        private ServiceApiOverloadedException shed(Counter reason) {
+            reason.increment();
+            return new ServiceApiOverloadedException("common.server.overloaded", properties.getRetryAfter());
+        }
+    }
+}
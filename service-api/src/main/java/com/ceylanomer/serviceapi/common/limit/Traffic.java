@@ -0,0 +1,15 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the traffic class derived from the HTTP method for a handler method or a whole controller.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Traffic {
+    TrafficClass value();
+}
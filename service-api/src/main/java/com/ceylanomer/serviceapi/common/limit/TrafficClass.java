@@ -0,0 +1,32 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import java.util.Locale;
+
+/**
+ * Request classes in descending priority. Under overload the lower classes are shed first.
+ */
+public enum TrafficClass {
+    SINGLE_READ,
+    WRITE,
+    BATCH_READ,
+    BULK;
+
+    public String tagValue() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static TrafficClass fromTagValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException unknown) {
+            return null;
+        }
+    }
+
+    public TrafficClass lowerOf(TrafficClass other) {
+        return other == null || other.ordinal() <= ordinal() ? this : other;
+    }
+}
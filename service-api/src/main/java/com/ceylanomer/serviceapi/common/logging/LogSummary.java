@@ -0,0 +1,41 @@
+package com.ceylanomer.serviceapi.common.logging;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Log arguments that stay small however large the payload is. The text is only built when the event is actually
+ * written, so sampled-out or disabled log calls cost nothing beyond the wrapper.
+ */
+public final class LogSummary {
+    static final int MAX_LISTED_IDS = 5;
+
+    private LogSummary() {
+    }
+
+    public static Object lazy(Supplier<String> summary) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return summary.get();
+            }
+        };
+    }
+
+    public static <T> String ids(Collection<T> items, Function<? super T, ?> id) {
+        if (items == null || items.isEmpty()) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<T> iterator = items.iterator();
+        for (int i = 0; i < MAX_LISTED_IDS && iterator.hasNext(); i++) {
+            builder.append(i == 0 ? "" : ", ").append(id.apply(iterator.next()));
+        }
+        if (items.size() > MAX_LISTED_IDS) {
+            builder.append(", ... ").append(items.size() - MAX_LISTED_IDS).append(" more");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ceylanomer.serviceapi.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets at most {@code permitsPerSecond} events at or below {@code level} through per logger under the configured
+ * prefixes. Turbo filters run before the logging event is created, so a suppressed call never formats its message
+ * or calls {@code toString} on its arguments. Warnings and errors always pass.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private List<String> loggerPrefixes = List.of();
+    private Level level = Level.INFO;
+    private int permitsPerSecond = 50;
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable throwable) {
+        if (format == null || level == null || level.toInt() > this.level.toInt() || !isStarted() || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (tryAcquire(windows.computeIfAbsent(logger.getName(), name -> new AtomicLong()), System.currentTimeMillis() / 1000)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(",")).map(String::trim).filter(prefix -> !prefix.isEmpty()).toList();
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    private boolean sampled(String loggerName) {
+        for (int i = 0, size = loggerPrefixes.size(); i < size; i++) {
+            if (loggerName.startsWith(loggerPrefixes.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The window packs the current second into the high and the events let through into the low 32 bits.
+     */
+    private boolean tryAcquire(AtomicLong window, long second) {
+        while (true) {
+            long current = window.get();
+            long count = current >>> 32 == second ? current & 0xFFFF_FFFFL : 0;
+            if (count >= permitsPerSecond) {
+                return false;
+            }
+            if (window.compareAndSet(current, second << 32 | (count + 1))) {
+                return true;
+            }
+        }
+    }
+}
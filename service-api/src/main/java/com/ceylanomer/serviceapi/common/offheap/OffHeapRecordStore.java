@@ -0,0 +1,231 @@
+package com.ceylanomer.serviceapi.common.offheap;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Append-only key/value store whose values live in slabs allocated from a shared {@link Arena}. Only the key index
+ * stays on the heap; each record is a length prefix followed by the value bytes, and an address packs the slab
+ * number into the high and the offset into the low 32 bits. Writes never touch published bytes, so readers copy
+ * without locking and only fall back to the read lock when a compaction moved records under them. Writers are
+ * serialized on the store.
+ */
+public final class OffHeapRecordStore implements AutoCloseable {
+    private static final long ALIGNMENT = Integer.BYTES;
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+    private static final int ABSENT = -1;
+    private static final int RETRY = -2;
+
+    private final long slabSize;
+    private final double compactionThreshold;
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+    private final StampedLock compactionLock = new StampedLock();
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[512]);
+
+    private volatile Slabs slabs;
+    private long writeOffset;
+    private long allocatedBytes;
+    private long liveBytes;
+    private long compactions;
+
+    public OffHeapRecordStore(long slabSize, double compactionThreshold) {
+        if (slabSize < LENGTH_PREFIX || slabSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Slab size must be between " + LENGTH_PREFIX + " and " + Integer.MAX_VALUE + " bytes");
+        }
+        this.slabSize = slabSize;
+        this.compactionThreshold = compactionThreshold;
+        this.slabs = new Slabs(Arena.ofShared(), new MemorySegment[0]);
+    }
+
+    public <T> T get(String key, RecordDecoder<T> decoder) {
+        int length = RETRY;
+        long stamp = compactionLock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                length = copy(key);
+            } catch (IllegalStateException | IndexOutOfBoundsException movedOrClosed) {
+                length = RETRY;
+            }
+            if (!compactionLock.validate(stamp)) {
+                length = RETRY;
+            }
+        }
+        if (length == RETRY) {
+            stamp = compactionLock.readLock();
+            try {
+                length = copy(key);
+            } finally {
+                compactionLock.unlockRead(stamp);
+            }
+        }
+        return length == ABSENT ? null : decoder.decode(key, scratch.get(), 0, length);
+    }
+
+    public boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized void put(String key, byte[] value, int offset, int length) {
+        long address = append(MemorySegment.ofArray(value), offset, length);
+        Long previous = index.put(key, address);
+        liveBytes += recordSize(length);
+        if (previous != null) {
+            liveBytes -= recordSize(lengthAt(slabs, previous));
+        }
+        compactIfFragmented();
+    }
+
+    public synchronized boolean remove(String key) {
+        Long previous = index.remove(key);
+        if (previous == null) {
+            return false;
+        }
+        liveBytes -= recordSize(lengthAt(slabs, previous));
+        compactIfFragmented();
+        return true;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public synchronized long liveBytes() {
+        return liveBytes;
+    }
+
+    public synchronized long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public synchronized long compactions() {
+        return compactions;
+    }
+
+    /**
+     * Copies the live records into a fresh arena and frees the old one. Readers are held off for the duration of
+     * the copy, so this is only triggered once the garbage share passes the configured threshold.
+     */
+    public synchronized void compact() {
+        long stamp = compactionLock.writeLock();
+        try {
+            Slabs previous = slabs;
+            slabs = new Slabs(Arena.ofShared(), new MemorySegment[0]);
+            writeOffset = 0;
+            allocatedBytes = 0;
+            for (Map.Entry<String, Long> entry : index.entrySet()) {
+                entry.setValue(relocate(previous, entry.getValue()));
+            }
+            compactions++;
+            close(previous.arena());
+        } finally {
+            compactionLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        long stamp = compactionLock.writeLock();
+        try {
+            index.clear();
+            liveBytes = 0;
+            allocatedBytes = 0;
+            close(slabs.arena());
+        } finally {
+            compactionLock.unlockWrite(stamp);
+        }
+    }
+
+    private int copy(String key) {
+        Long address = index.get(key);
+        if (address == null) {
+            return ABSENT;
+        }
+        MemorySegment slab = slabs.segments()[slabOf(address)];
+        long offset = offsetOf(address);
+        int length = slab.get(ValueLayout.JAVA_INT_UNALIGNED, offset);
+        if (length < 0 || length > slab.byteSize() - offset - LENGTH_PREFIX) {
+            return RETRY;
+        }
+        byte[] buffer = scratch.get();
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+            scratch.set(buffer);
+        }
+        MemorySegment.copy(slab, ValueLayout.JAVA_BYTE, offset + LENGTH_PREFIX, buffer, 0, length);
+        return length;
+    }
+
+    private long append(MemorySegment source, long sourceOffset, int length) {
+        long size = recordSize(length);
+        MemorySegment[] segments = slabs.segments();
+        if (segments.length == 0 || writeOffset + size > segments[segments.length - 1].byteSize()) {
+            long capacity = Math.max(slabSize, size);
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Record of " + length + " bytes does not fit in a slab");
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segments[segments.length - 1] = slabs.arena().allocate(capacity, ALIGNMENT);
+            slabs = new Slabs(slabs.arena(), segments);
+            writeOffset = 0;
+        }
+        MemorySegment slab = segments[segments.length - 1];
+        slab.set(ValueLayout.JAVA_INT_UNALIGNED, writeOffset, length);
+        MemorySegment.copy(source, sourceOffset, slab, writeOffset + LENGTH_PREFIX, length);
+        long address = (long) (segments.length - 1) << 32 | writeOffset;
+        writeOffset += size;
+        allocatedBytes += size;
+        return address;
+    }
+
+    private long relocate(Slabs from, long address) {
+        MemorySegment source = from.segments()[slabOf(address)];
+        long offset = offsetOf(address);
+        return append(source, offset + LENGTH_PREFIX, source.get(ValueLayout.JAVA_INT_UNALIGNED, offset));
+    }
+
+    private void compactIfFragmented() {
+        long garbage = allocatedBytes - liveBytes;
+        if (allocatedBytes > slabSize && garbage > allocatedBytes * compactionThreshold) {
+            compact();
+        }
+    }
+
+    private static int lengthAt(Slabs slabs, long address) {
+        return slabs.segments()[slabOf(address)].get(ValueLayout.JAVA_INT_UNALIGNED, offsetOf(address));
+    }
+
+    private static long recordSize(int length) {
+        long size = LENGTH_PREFIX + (long) length;
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static long offsetOf(long address) {
+        return address & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Closing a shared arena fails while another thread is inside an access to it. Readers that still hold the old
+     * slabs are finishing an optimistic copy that will not validate, so the wait is bounded by one memcpy.
+     */
+    private static void close(Arena arena) {
+        while (arena.scope().isAlive()) {
+            try {
+                arena.close();
+            } catch (IllegalStateException inUse) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private record Slabs(Arena arena, MemorySegment[] segments) {
+    }
+}
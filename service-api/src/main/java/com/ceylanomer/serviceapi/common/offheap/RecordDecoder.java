@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.common.offheap;
+
+@FunctionalInterface
+public interface RecordDecoder<T> {
+    T decode(String key, byte[] buffer, int offset, int length);
+}
@@ -0,0 +1,24 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+
+import java.util.Collection;
+
+/**
+ * Query handler whose results are cached by the {@link QueryBus}, keyed on the query value, so the
+ * query type must implement {@code equals} and {@code hashCode}.
+ */
+public interface CacheableQueryHandler<Q extends Query, R> extends QueryHandler<Q, R> {
+
+    /**
+     * Returns the queries whose cached results the event makes stale, or {@code null} to drop every entry.
+     */
+    Collection<Q> invalidatedBy(DomainEvent event);
+
+    /**
+     * Prepares a freshly handled result before the cache keeps it; the default keeps it as is.
+     */
+    default R toCached(R result) {
+        return result;
+    }
+}
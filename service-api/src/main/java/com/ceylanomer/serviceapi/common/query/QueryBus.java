@@ -1,39 +1,72 @@
 package com.ceylanomer.serviceapi.common.query;
 
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.limit.AdaptiveConcurrencyLimiter;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 public class QueryBus {
-    private final Map<Class<? extends Query>, QueryHandler> handlers = new HashMap<>();
+    private final Map<Class<? extends Query>, QueryInvoker> invokers = new HashMap<>();
+    private final List<QueryCache> caches = new ArrayList<>();
     private final ApplicationContext applicationContext;
+    private final ObjectProvider<QueryInterceptor> interceptors;
+    private final QueryCacheProperties queryCacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimiter readLimiter;
 
     @Autowired
-    public QueryBus(ApplicationContext applicationContext) {
+    public QueryBus(ApplicationContext applicationContext, ObjectProvider<QueryInterceptor> interceptors,
+                    QueryCacheProperties queryCacheProperties, MeterRegistry meterRegistry, ConcurrencyLimiters concurrencyLimiters) {
         this.applicationContext = applicationContext;
+        this.interceptors = interceptors;
+        this.queryCacheProperties = queryCacheProperties;
+        this.meterRegistry = meterRegistry;
+        this.readLimiter = concurrencyLimiters.read();
     }
 
     @PostConstruct
     public void registerHandlers() {
+        List<QueryInterceptor> orderedInterceptors = interceptors.orderedStream().toList();
         Map<String, QueryHandler> beans = applicationContext.getBeansOfType(QueryHandler.class);
         for (QueryHandler handler : beans.values()) {
-            Class<? extends Query> queryClass = (Class<? extends Query>) ((ParameterizedType) handler.getClass().getGenericInterfaces()[0]).getActualTypeArguments()[0];
-            handlers.put(queryClass, handler);
+            Class<? extends Query> queryClass = (Class<? extends Query>) ResolvableType.forClass(handler.getClass()).as(QueryHandler.class).resolveGeneric(0);
+            QueryInvoker invoker = handler::handle;
+            QueryCacheProperties.Settings cacheSettings = queryCacheProperties.settingsFor(queryClass.getSimpleName());
+            if (handler instanceof CacheableQueryHandler cacheableHandler && cacheSettings.isEnabled()) {
+                QueryCache cache = new QueryCache(queryClass.getSimpleName(), cacheableHandler, cacheSettings, meterRegistry);
+                caches.add(cache);
+                invoker = cache::get;
+            }
+            for (int i = orderedInterceptors.size() - 1; i >= 0; i--) {
+                invoker = orderedInterceptors.get(i).intercept(queryClass, invoker);
+            }
+            invokers.put(queryClass, invoker);
         }
     }
 
     public <Q extends Query, R> R execute(Q query) {
-        QueryHandler<Q, R> handler = handlers.get(query.getClass());
-        if (handler != null) {
-            return handler.handle(query);
-        } else {
+        QueryInvoker invoker = invokers.get(query.getClass());
+        if (invoker == null) {
             throw new IllegalArgumentException("No handler registered for " + query.getClass().getName());
         }
+        try (var permit = readLimiter.acquire()) {
+            return (R) invoker.invoke(query);
+        }
+    }
+
+    public void invalidate(DomainEvent event) {
+        caches.forEach(cache -> cache.invalidate(event));
     }
 }
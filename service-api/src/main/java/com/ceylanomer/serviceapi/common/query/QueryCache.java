@@ -0,0 +1,42 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Collection;
+
+class QueryCache {
+    private final CacheableQueryHandler<Query, Object> handler;
+    private final Cache<Query, Object> cache;
+    private final Counter invalidations;
+
+    QueryCache(String queryName, CacheableQueryHandler<Query, Object> handler, QueryCacheProperties.Settings settings, MeterRegistry meterRegistry) {
+        this.handler = handler;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        this.invalidations = meterRegistry.counter("query.cache.invalidations", "cache", queryName);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, queryName);
+    }
+
+    Object get(Query query) {
+        return cache.get(query, q -> handler.toCached(handler.handle(q)));
+    }
+
+    void invalidate(DomainEvent event) {
+        Collection<Query> stale = handler.invalidatedBy(event);
+        if (stale == null) {
+            invalidations.increment(cache.estimatedSize());
+            cache.invalidateAll();
+        } else if (!stale.isEmpty()) {
+            invalidations.increment(stale.size());
+            cache.invalidateAll(stale);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class QueryCacheInvalidationHandler extends DomainEventHandler<DomainEvent> {
+    private final QueryBus queryBus;
+
+    @Override
+    protected void handle(DomainEvent event) {
+        queryBus.invalidate(event);
+    }
+}
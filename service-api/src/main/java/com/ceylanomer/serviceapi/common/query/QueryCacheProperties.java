@@ -0,0 +1,26 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.query-cache")
+public class QueryCacheProperties {
+    private Settings defaults = new Settings();
+    private Map<String, Settings> queries = new HashMap<>();
+
+    public Settings settingsFor(String queryName) {
+        return queries.getOrDefault(queryName, defaults);
+    }
+
+    @Data
+    public static class Settings {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ceylanomer.serviceapi.common.query;
+
+/**
+ * Middleware around query handlers, composed once per query type when the bus starts.
+ *
+ * @see com.ceylanomer.serviceapi.common.command.CommandInterceptor
+ */
+public interface QueryInterceptor {
+    QueryInvoker intercept(Class<? extends Query> queryType, QueryInvoker next);
+}
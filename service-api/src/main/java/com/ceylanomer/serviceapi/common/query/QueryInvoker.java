@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.common.query;
+
+@FunctionalInterface
+public interface QueryInvoker {
+    Object invoke(Query query);
+}
@@ -0,0 +1,37 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsInterceptor implements QueryInterceptor {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public QueryInvoker intercept(Class<? extends Query> queryType, QueryInvoker next) {
+        String query = queryType.getSimpleName();
+        Timer timer = Timer.builder("query.bus.duration")
+                .tag("query", query)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return q -> {
+            long start = System.nanoTime();
+            try {
+                return next.invoke(q);
+            } catch (RuntimeException exception) {
+                meterRegistry.counter("query.bus.errors", "query", query, "exception", exception.getClass().getSimpleName()).increment();
+                throw exception;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiBusinessException;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Replays stored events into handlers in the background. Running replays are tracked until they finish; finished
+ * statuses are then kept for {@code serviceapi.replay.finished-retention}, up to {@code max-finished} of them, after
+ * which only the stored checkpoint remains.
+ */
+@Slf4j
+@Service
+public class DomainEventReplayer {
+    private final ApplicationContext applicationContext;
+    private final List<DomainEventSource> sources;
+    private final ReplayCheckpointMongoRepository replayCheckpointMongoRepository;
+    private final ReplayProperties replayProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ReplayStatus> replays = new ConcurrentHashMap<>();
+    private final Cache<String, ReplayStatus> finishedReplays;
+
+    public DomainEventReplayer(ApplicationContext applicationContext, List<DomainEventSource> sources,
+                               ReplayCheckpointMongoRepository replayCheckpointMongoRepository, ReplayProperties replayProperties,
+                               MeterRegistry meterRegistry) {
+        this.applicationContext = applicationContext;
+        this.sources = sources;
+        this.replayCheckpointMongoRepository = replayCheckpointMongoRepository;
+        this.replayProperties = replayProperties;
+        this.meterRegistry = meterRegistry;
+        this.finishedReplays = Caffeine.newBuilder()
+                .maximumSize(replayProperties.getMaxFinished())
+                .expireAfterWrite(replayProperties.getFinishedRetention())
+                .build();
+    }
+
+    public ReplayStatus start(String replayId, String sourceName, List<String> handlerNames) {
+        DomainEventSource source = sources.stream()
+                .filter(candidate -> candidate.name().equals(sourceName))
+                .findFirst()
+                .orElseThrow(() -> new ServiceApiBusinessException("replay.source.notFound", sourceName));
+        Map<String, ReplayTarget> targets = resolveTargets(handlerNames);
+
+        var status = new ReplayStatus(replayId, sourceName, List.copyOf(targets.keySet()));
+        ReplayStatus running = replays.compute(replayId, (id, existing) ->
+                existing != null && existing.getState() == ReplayState.RUNNING ? existing : status);
+        if (running != status) {
+            throw new ServiceApiBusinessException("replay.alreadyRunning", replayId);
+        }
+
+        String resumePosition = replayCheckpointMongoRepository.findById(replayId)
+                .filter(checkpoint -> checkpoint.getState() != ReplayState.COMPLETED && sourceName.equals(checkpoint.getSource()))
+                .map(checkpoint -> {
+                    status.setProcessed(checkpoint.getProcessed());
+                    status.setCheckpoint(checkpoint.getPosition());
+                    return checkpoint.getPosition();
+                })
+                .orElse(null);
+
+        Thread.ofPlatform().name("replay-" + replayId).start(() -> run(status, source, targets.values(), resumePosition));
+        return status;
+    }
+
+    public ReplayStatus status(String replayId) {
+        return Optional.ofNullable(replays.get(replayId))
+                .or(() -> Optional.ofNullable(finishedReplays.getIfPresent(replayId)))
+                .orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement"));
+    }
+
+    private void run(ReplayStatus status, DomainEventSource source, Iterable<ReplayTarget> targets, String resumePosition) {
+        int workers = Math.max(1, replayProperties.getWorkers());
+        int batchSize = Math.max(1, replayProperties.getBatchSize());
+        Counter counter = meterRegistry.counter("domain.event.replay.events", "source", status.getSource());
+        ExecutorService[] partitions = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            partitions[i] = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("replay-" + status.getReplayId() + "-" + i).factory());
+        }
+        long startedAt = System.nanoTime();
+        long initialProcessed = status.getProcessed();
+        log.info("Replay {} started from source {} after position {} with {} workers", status.getReplayId(), status.getSource(), resumePosition, workers);
+
+        try (Stream<ReplayRecord> records = source.stream(resumePosition)) {
+            Iterator<ReplayRecord> iterator = records.iterator();
+            List<List<DomainEvent>> batch = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                batch.add(new ArrayList<>());
+            }
+            ReplayRecord next = iterator.hasNext() ? iterator.next() : null;
+            while (next != null) {
+                int batchCount = 0;
+                String lastPosition = null;
+                while (next != null && (batchCount < batchSize || next.getPosition().equals(lastPosition))) {
+                    batch.get(Math.floorMod(next.getEvent().key().hashCode(), workers)).add(next.getEvent());
+                    lastPosition = next.getPosition();
+                    batchCount++;
+                    next = iterator.hasNext() ? iterator.next() : null;
+                }
+                dispatch(partitions, batch, targets);
+                counter.increment(batchCount);
+                status.setProcessed(status.getProcessed() + batchCount);
+                status.setEventsPerSecond((status.getProcessed() - initialProcessed) / Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9));
+                status.setCheckpoint(lastPosition);
+                saveCheckpoint(status, ReplayState.RUNNING);
+                log.info("Replay {} processed {} events ({} events/s), checkpoint {}", status.getReplayId(), status.getProcessed(),
+                        Math.round(status.getEventsPerSecond()), lastPosition);
+            }
+            status.setState(ReplayState.COMPLETED);
+            saveCheckpoint(status, ReplayState.COMPLETED);
+            log.info("Replay {} completed with {} events", status.getReplayId(), status.getProcessed());
+        } catch (Exception exception) {
+            status.setError(exception.getMessage());
+            status.setState(ReplayState.FAILED);
+            saveCheckpoint(status, ReplayState.FAILED);
+            log.error("Replay {} failed after checkpoint {}", status.getReplayId(), status.getCheckpoint(), exception);
+        } finally {
+            status.setFinishedDate(new Date());
+            for (ExecutorService partition : partitions) {
+                partition.shutdownNow();
+            }
+            finishedReplays.put(status.getReplayId(), status);
+            replays.remove(status.getReplayId(), status);
+        }
+    }
+
+    private void dispatch(ExecutorService[] partitions, List<List<DomainEvent>> batch, Iterable<ReplayTarget> targets) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.length);
+        for (int i = 0; i < partitions.length; i++) {
+            List<DomainEvent> events = batch.get(i);
+            if (events.isEmpty()) {
+                continue;
+            }
+            List<DomainEvent> partitionEvents = List.copyOf(events);
+            events.clear();
+            futures.add(CompletableFuture.runAsync(() -> partitionEvents.forEach(event -> {
+                for (ReplayTarget target : targets) {
+                    target.accept(event);
+                }
+            }), partitions[i]));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void saveCheckpoint(ReplayStatus status, ReplayState state) {
+        if (status.getCheckpoint() == null && state == ReplayState.RUNNING) {
+            return;
+        }
+        replayCheckpointMongoRepository.save(ReplayCheckpointDocument.builder()
+                .replayId(status.getReplayId())
+                .source(status.getSource())
+                .position(status.getCheckpoint())
+                .processed(status.getProcessed())
+                .state(state)
+                .lastModifiedDate(new Date())
+                .build());
+    }
+
+    private Map<String, ReplayTarget> resolveTargets(List<String> handlerNames) {
+        Map<String, ReplayTarget> targets = new LinkedHashMap<>();
+        if (CollectionUtils.isEmpty(handlerNames)) {
+            throw new ServiceApiBusinessException("replay.handler.required");
+        }
+        for (String handlerName : handlerNames) {
+            if (!applicationContext.containsBean(handlerName) || !applicationContext.isTypeMatch(handlerName, DomainEventHandler.class)) {
+                throw new ServiceApiBusinessException("replay.handler.notFound", handlerName);
+            }
+            DomainEventHandler<?> handler = applicationContext.getBean(handlerName, DomainEventHandler.class);
+            if (!handler.supportsReplay()) {
+                throw new ServiceApiBusinessException("replay.handler.notReplayable", handlerName);
+            }
+            targets.put(handlerName, new ReplayTarget(handler));
+        }
+        return targets;
+    }
+
+    private static class ReplayTarget {
+        private final DomainEventHandler<DomainEvent> handler;
+        private final Class<?> eventClass;
+
+        @SuppressWarnings("unchecked")
+        ReplayTarget(DomainEventHandler<?> handler) {
+            this.handler = (DomainEventHandler<DomainEvent>) handler;
+            Class<?> resolved = ResolvableType.forClass(handler.getClass()).as(DomainEventHandler.class).resolveGeneric(0);
+            this.eventClass = resolved != null ? resolved : DomainEvent.class;
+        }
+
+        void accept(DomainEvent event) {
+            if (eventClass.isInstance(event)) {
+                handler.replay(event);
+            }
+        }
+    }
+}
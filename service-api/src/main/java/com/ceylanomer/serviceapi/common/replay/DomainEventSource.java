@@ -0,0 +1,9 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import java.util.stream.Stream;
+
+public interface DomainEventSource {
+    String name();
+
+    Stream<ReplayRecord> stream(String afterPosition);
+}
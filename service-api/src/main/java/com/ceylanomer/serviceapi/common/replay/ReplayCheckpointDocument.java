@@ -0,0 +1,31 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "replay_checkpoints")
+public class ReplayCheckpointDocument {
+    @Id
+    private String replayId;
+    @Field(value = "source")
+    private String source;
+    @Field(value = "position")
+    private String position;
+    @Field(value = "processed")
+    private long processed;
+    @Field(value = "state")
+    private ReplayState state;
+    @Field(value = "lastModifiedDate")
+    private Date lastModifiedDate;
+}
@@ -0,0 +1,8 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReplayCheckpointMongoRepository extends MongoRepository<ReplayCheckpointDocument, String> {
+}
@@ -0,0 +1,18 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.replay")
+public class ReplayProperties {
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 1000;
+    /**
+     * How long the status of a finished replay stays available, and how many finished statuses are kept at most.
+     */
+    private Duration finishedRetention = Duration.ofHours(24);
+    private int maxFinished = 1000;
+}
@@ -0,0 +1,12 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReplayRecord {
+    private String position;
+    private DomainEvent event;
+}
@@ -0,0 +1,7 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+public enum ReplayState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
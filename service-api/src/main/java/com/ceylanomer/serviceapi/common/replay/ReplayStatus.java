@@ -0,0 +1,20 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import lombok.Data;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+public class ReplayStatus {
+    private final String replayId;
+    private final String source;
+    private final List<String> handlers;
+    private final Date startedDate = new Date();
+    private volatile ReplayState state = ReplayState.RUNNING;
+    private volatile long processed;
+    private volatile double eventsPerSecond;
+    private volatile String checkpoint;
+    private volatile Date finishedDate;
+    private volatile String error;
+}
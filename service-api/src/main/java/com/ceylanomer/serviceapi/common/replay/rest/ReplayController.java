@@ -0,0 +1,35 @@
+package com.ceylanomer.serviceapi.common.replay.rest;
+
+import com.ceylanomer.serviceapi.common.controller.BaseController;
+import com.ceylanomer.serviceapi.common.limit.Traffic;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
+import com.ceylanomer.serviceapi.common.replay.DomainEventReplayer;
+import com.ceylanomer.serviceapi.common.replay.ReplayStatus;
+import com.ceylanomer.serviceapi.common.replay.rest.request.ReplayRequest;
+import com.ceylanomer.serviceapi.common.response.Response;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/replays")
+public class ReplayController extends BaseController {
+    private final DomainEventReplayer domainEventReplayer;
+
+    @PostMapping
+    @Traffic(TrafficClass.BULK)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Response<ReplayStatus> start(@Valid @RequestBody ReplayRequest request) {
+        log.info("Starting replay {} from source {} for handlers {}", request.getReplayId(), request.getSource(), request.getHandlers());
+        return respond(domainEventReplayer.start(request.getReplayId(), request.getSource(), request.getHandlers()));
+    }
+
+    @GetMapping("/{replayId}")
+    public Response<ReplayStatus> status(@PathVariable String replayId) {
+        return respond(domainEventReplayer.status(replayId));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ceylanomer.serviceapi.common.replay.rest.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplayRequest {
+    @NotBlank(message = "common.client.requiredField")
+    private String replayId;
+    @NotBlank(message = "common.client.requiredField")
+    private String source;
+    @NotEmpty(message = "common.client.requiredField")
+    private List<String> handlers;
+}
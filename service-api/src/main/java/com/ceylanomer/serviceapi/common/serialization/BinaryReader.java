@@ -0,0 +1,147 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class BinaryReader {
+    private String[] strings = new String[32];
+    private int stringCount;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int formatVersion;
+
+    public BinaryReader reset(byte[] buffer, int offset, int length) {
+        if (length < BinaryWriter.HEADER_BYTES) {
+            throw new IllegalArgumentException("Frame of " + length + " bytes is too short");
+        }
+        Arrays.fill(strings, 0, stringCount, null);
+        stringCount = 0;
+        this.buffer = buffer;
+        this.formatVersion = buffer[offset] & 0xFF;
+        int bodyLength = (buffer[offset + 1] & 0xFF) << 24 | (buffer[offset + 2] & 0xFF) << 16
+                | (buffer[offset + 3] & 0xFF) << 8 | (buffer[offset + 4] & 0xFF);
+        int bodyStart = offset + BinaryWriter.HEADER_BYTES;
+        if (bodyLength < 0 || bodyLength > length - BinaryWriter.HEADER_BYTES) {
+            throw new IllegalArgumentException("Body length " + bodyLength + " exceeds frame of " + length + " bytes");
+        }
+        this.position = bodyStart + bodyLength;
+        this.limit = offset + length;
+        readStringTable();
+        this.position = bodyStart;
+        this.limit = bodyStart + bodyLength;
+        return this;
+    }
+
+    public int formatVersion() {
+        return formatVersion;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    public int readTag() {
+        return (int) readVarint();
+    }
+
+    public static int fieldNumber(int tag) {
+        return tag >>> 3;
+    }
+
+    public static int wireType(int tag) {
+        return tag & 0x7;
+    }
+
+    public long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(1);
+            byte b = buffer[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at position " + position);
+    }
+
+    public long readSignedVarint() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readFixed64() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value |= (buffer[position++] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+
+    public String readString() {
+        long index = readVarint();
+        if (index < 0 || index >= stringCount) {
+            throw new IllegalArgumentException("Unknown string reference " + index);
+        }
+        return strings[(int) index];
+    }
+
+    public int beginMessage() {
+        int length = readLength();
+        int previousLimit = limit;
+        limit = position + length;
+        return previousLimit;
+    }
+
+    public void endMessage(int previousLimit) {
+        position = limit;
+        limit = previousLimit;
+    }
+
+    public void skip(int wireType) {
+        switch (wireType) {
+            case BinaryWriter.VARINT, BinaryWriter.STRING -> readVarint();
+            case BinaryWriter.FIXED64 -> {
+                require(8);
+                position += 8;
+            }
+            case BinaryWriter.LENGTH_DELIMITED -> {
+                int length = readLength();
+                position += length;
+            }
+            default -> throw new IllegalArgumentException("Unknown wire type " + wireType);
+        }
+    }
+
+    private void readStringTable() {
+        long count = readVarint();
+        if (count < 0 || count > limit - position) {
+            throw new IllegalArgumentException("Invalid string table size " + count);
+        }
+        if (count > strings.length) {
+            strings = new String[(int) count];
+        }
+        for (int i = 0; i < count; i++) {
+            int length = readLength();
+            strings[i] = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+        }
+        stringCount = (int) count;
+    }
+
+    private int readLength() {
+        long length = readVarint();
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException("Length " + length + " exceeds remaining " + (limit - position) + " bytes");
+        }
+        return (int) length;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > limit) {
+            throw new IllegalArgumentException("Unexpected end of input at position " + position);
+        }
+    }
+}
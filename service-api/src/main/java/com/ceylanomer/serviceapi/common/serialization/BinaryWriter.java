@@ -0,0 +1,173 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.util.Arrays;
+
+/**
+ * Tag-length-value writer. A frame is laid out as {@code formatVersion(1) bodyLength(4) body stringTable}; every body
+ * field is prefixed with {@code fieldNumber << 3 | wireType} so readers can skip fields they do not know, and string
+ * fields only carry an index into the trailing table, so repeated owner names and account numbers are stored once.
+ * Nested messages get a fixed five-byte length, a varint padded with continuation bits, that is patched in place
+ * when the message ends instead of moving its body behind a shorter prefix.
+ */
+public final class BinaryWriter {
+    public static final int VARINT = 0;
+    public static final int FIXED64 = 1;
+    public static final int LENGTH_DELIMITED = 2;
+    public static final int STRING = 3;
+
+    static final int HEADER_BYTES = 5;
+    private static final int RESERVED_LENGTH_BYTES = 5;
+
+    private final StringTable strings = new StringTable();
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, HEADER_BYTES)];
+    }
+
+    public BinaryWriter begin(int formatVersion) {
+        strings.clear();
+        buffer[0] = (byte) formatVersion;
+        position = HEADER_BYTES;
+        return this;
+    }
+
+    public BinaryWriter finish() {
+        int bodyLength = position - HEADER_BYTES;
+        buffer[1] = (byte) (bodyLength >>> 24);
+        buffer[2] = (byte) (bodyLength >>> 16);
+        buffer[3] = (byte) (bodyLength >>> 8);
+        buffer[4] = (byte) bodyLength;
+        int count = strings.size();
+        writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            writeUtf8(strings.get(i));
+        }
+        return this;
+    }
+
+    public void writeTag(int fieldNumber, int wireType) {
+        writeVarint((long) fieldNumber << 3 | wireType);
+    }
+
+    public void writeVarintField(int fieldNumber, long value) {
+        writeTag(fieldNumber, VARINT);
+        writeVarint(value);
+    }
+
+    public void writeSignedVarintField(int fieldNumber, long value) {
+        writeTag(fieldNumber, VARINT);
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFixed64Field(int fieldNumber, long value) {
+        writeTag(fieldNumber, FIXED64);
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    public void writeStringField(int fieldNumber, String value) {
+        if (value == null) {
+            return;
+        }
+        int index = strings.indexOf(value);
+        if (index < 0) {
+            index = strings.add(value);
+        }
+        writeTag(fieldNumber, STRING);
+        writeVarint(index);
+    }
+
+    public int beginMessage(int fieldNumber) {
+        writeTag(fieldNumber, LENGTH_DELIMITED);
+        ensureCapacity(RESERVED_LENGTH_BYTES);
+        int start = position;
+        position += RESERVED_LENGTH_BYTES;
+        return start;
+    }
+
+    public void endMessage(int start) {
+        int length = position - (start + RESERVED_LENGTH_BYTES);
+        for (int i = 0; i < RESERVED_LENGTH_BYTES - 1; i++) {
+            buffer[start + i] = (byte) ((length >>> (7 * i)) & 0x7F | 0x80);
+        }
+        buffer[start + RESERVED_LENGTH_BYTES - 1] = (byte) (length >>> 28);
+    }
+
+    public void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeUtf8(String value) {
+        int length = value.length();
+        int encodedLength = utf8Length(value);
+        writeVarint(encodedLength);
+        ensureCapacity(encodedLength);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int encodedLength = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                encodedLength += 2;
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (c >= 0x80) {
+                encodedLength += 1;
+            }
+        }
+        return encodedLength;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
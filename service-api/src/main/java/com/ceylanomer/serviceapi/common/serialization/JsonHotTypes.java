@@ -0,0 +1,11 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Request and response body types whose Jackson readers and writers are built at startup. Read types must be
+ * concrete, without type variables.
+ */
+public record JsonHotTypes(List<Type> writeTypes, List<Type> readTypes) {
+}
@@ -0,0 +1,59 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * Input stream that fails as soon as more than {@code limit} bytes have been read, so bodies without a
+ * {@code Content-Length} are cut off at the limit instead of being buffered whole.
+ */
+public class LimitedInputStream extends FilterInputStream {
+    private final long limit;
+    private final Supplier<? extends RuntimeException> onLimitExceeded;
+    private long count;
+
+    public LimitedInputStream(InputStream in, long limit, Supplier<? extends RuntimeException> onLimitExceeded) {
+        super(in);
+        this.limit = limit;
+        this.onLimitExceeded = onLimitExceeded;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            count(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long bytes) {
+        count += bytes;
+        if (count > limit) {
+            throw onLimitExceeded.get();
+        }
+    }
+}
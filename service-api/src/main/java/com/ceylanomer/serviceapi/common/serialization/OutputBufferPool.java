@@ -0,0 +1,53 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of growable output buffers. Buffers that grew past {@code maxRetainedBytes} are dropped on release
+ * instead of being pooled, so one large response cannot pin a large array for good.
+ */
+public final class OutputBufferPool {
+    private final BlockingQueue<Buffer> buffers;
+    private final int initialBytes;
+    private final int maxRetainedBytes;
+
+    public OutputBufferPool(int poolSize, int initialBytes, int maxRetainedBytes) {
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+        this.initialBytes = initialBytes;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    public Buffer acquire() {
+        Buffer buffer = buffers.poll();
+        return buffer != null ? buffer : new Buffer(initialBytes);
+    }
+
+    public void release(Buffer buffer) {
+        if (buffer.capacity() <= maxRetainedBytes) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    public int pooled() {
+        return buffers.size();
+    }
+
+    public static final class Buffer extends ByteArrayOutputStream {
+        private Buffer(int initialBytes) {
+            super(initialBytes);
+        }
+
+        public int capacity() {
+            return buf.length;
+        }
+
+        public void copyTo(OutputStream out) throws IOException {
+            out.write(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON converter that keeps one {@link ObjectWriter}/{@link ObjectReader} per declared handler type instead of
+ * resolving the type and looking up the root serializer on every call. Writers and readers for the hot types
+ * passed in at construction are built, and their serializers resolved, eagerly; other types on first use. UTF-8 bodies are serialized into a pooled buffer and
+ * sent with a {@code Content-Length}; views and other charsets take the regular path.
+ */
+public class PrecompiledJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    private final Map<JavaType, ObjectWriter> precompiledWriters = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> precompiledReaders = new ConcurrentHashMap<>();
+    private final Map<Type, ObjectWriter> typedWriters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> classWriters = new ConcurrentHashMap<>();
+    private final Map<ReadTarget, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final OutputBufferPool bufferPool;
+    private final ObjectWriter untyped;
+
+    public PrecompiledJacksonHttpMessageConverter(ObjectMapper objectMapper, OutputBufferPool bufferPool,
+                                                 Collection<Type> writeTypes, Collection<Type> readTypes) {
+        super(objectMapper);
+        this.bufferPool = bufferPool;
+        this.untyped = objectMapper.writer();
+        for (Type type : writeTypes) {
+            JavaType javaType = getJavaType(type, null);
+            precompiledWriters.put(javaType, objectMapper.writerFor(javaType));
+        }
+        for (Type type : readTypes) {
+            JavaType javaType = getJavaType(type, null);
+            precompiledReaders.put(javaType, objectMapper.readerFor(javaType));
+        }
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        if (!isUtf8(inputMessage.getHeaders().getContentType())) {
+            return super.read(type, contextClass, inputMessage);
+        }
+        try {
+            return readerFor(type, contextClass).readValue(inputMessage.getBody());
+        } catch (InvalidDefinitionException exception) {
+            throw new HttpMessageConversionException("Type definition error: " + exception.getType(), exception);
+        } catch (JsonProcessingException exception) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + exception.getOriginalMessage(), exception, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof MappingJacksonValue || !isUtf8(outputMessage.getHeaders().getContentType())) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        OutputBufferPool.Buffer buffer = bufferPool.acquire();
+        try {
+            writerFor(type, object).writeValue(buffer, object);
+            outputMessage.getHeaders().setContentLength(buffer.size());
+            buffer.copyTo(outputMessage.getBody());
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Like the default converter, only generic declared types pin the writer to the declared type; everything else
+     * is written by its runtime class so subclasses keep their own properties.
+     */
+    private ObjectWriter writerFor(@Nullable Type declaredType, Object value) {
+        if (declaredType != null) {
+            ObjectWriter writer = typedWriters.computeIfAbsent(declaredType, this::createWriter);
+            if (writer != untyped) {
+                return writer;
+            }
+        }
+        return classWriters.computeIfAbsent(value.getClass(), getObjectMapper()::writerFor);
+    }
+
+    private ObjectWriter createWriter(Type type) {
+        JavaType javaType = getJavaType(type, null);
+        if (!javaType.isContainerType() && !javaType.hasGenericTypes()) {
+            return untyped;
+        }
+        ObjectWriter precompiled = precompiledWriters.get(javaType);
+        return precompiled != null ? precompiled : getObjectMapper().writerFor(javaType);
+    }
+
+    private ObjectReader readerFor(Type type, @Nullable Class<?> contextClass) {
+        return readers.computeIfAbsent(new ReadTarget(type, contextClass), target -> {
+            JavaType javaType = getJavaType(target.type(), target.contextClass());
+            ObjectReader precompiled = precompiledReaders.get(javaType);
+            return precompiled != null ? precompiled : getObjectMapper().readerFor(javaType);
+        });
+    }
+
+    private static boolean isUtf8(@Nullable MediaType contentType) {
+        return contentType == null || contentType.getCharset() == null || StandardCharsets.UTF_8.equals(contentType.getCharset());
+    }
+
+    private record ReadTarget(Type type, @Nullable Class<?> contextClass) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+/**
+ * Two-way set-associative table of strings seen while parsing. A repeated value is returned from the table without
+ * allocating a new string; a new value takes a free slot of its pair or replaces the first one. Memory is bounded by
+ * the table size whatever the input holds. Hashes are spread with a Fibonacci multiplier, since owner names and
+ * account numbers that differ in their last characters have neighbouring {@code String} hashes.
+ * An instance may be shared between threads: a racing write only costs a missed match, since strings are immutable.
+ */
+public final class StringDeduplicator {
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private final String[] table;
+    private final int shift;
+
+    public StringDeduplicator(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+        this.table = new String[size];
+        this.shift = Integer.numberOfLeadingZeros(size) + 1;
+    }
+
+    public String dedupe(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = index(hash);
+        String existing = table[index];
+        if (existing != null && matches(existing, chars, offset, length)) {
+            return existing;
+        }
+        String other = table[index ^ 1];
+        if (other != null && matches(other, chars, offset, length)) {
+            return other;
+        }
+        String created = new String(chars, offset, length);
+        store(index, created);
+        return created;
+    }
+
+    public String dedupe(String value) {
+        if (value == null) {
+            return null;
+        }
+        int index = index(value.hashCode());
+        String existing = table[index];
+        if (value.equals(existing)) {
+            return existing;
+        }
+        String other = table[index ^ 1];
+        if (value.equals(other)) {
+            return other;
+        }
+        store(index, value);
+        return value;
+    }
+
+    private int index(int hash) {
+        return (hash * FIBONACCI) >>> shift;
+    }
+
+    private void store(int index, String value) {
+        table[table[index] != null && table[index ^ 1] == null ? index ^ 1 : index] = value;
+    }
+
+    private static boolean matches(String existing, char[] chars, int offset, int length) {
+        if (existing.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (existing.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import java.util.Arrays;
+
+final class StringTable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] indexes = new int[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    int indexOf(String value) {
+        int mask = keys.length - 1;
+        int slot = value.hashCode() & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(value)) {
+                return indexes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    int add(String value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        insert(value, size);
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(int index) {
+        return values[index];
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+    }
+
+    private void insert(String value, int index) {
+        int mask = keys.length - 1;
+        int slot = value.hashCode() & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        indexes[slot] = index;
+    }
+
+    private void grow() {
+        String[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new String[oldKeys.length * 2];
+        indexes = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldIndexes[i]);
+            }
+        }
+    }
+}
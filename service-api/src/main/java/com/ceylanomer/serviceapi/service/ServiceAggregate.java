@@ -1,6 +1,7 @@
 package com.ceylanomer.serviceapi.service;
 
 import com.ceylanomer.serviceapi.common.aggregate.BaseAggregate;
+import com.ceylanomer.serviceapi.service.event.ResourceChanges;
 import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
 import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
 import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
@@ -22,18 +23,28 @@ public class ServiceAggregate extends BaseAggregate<ServiceAggregate> {
 
     public ServiceAggregate(String id, List<Resource> resources) {
         super(id);
-        this.resources = resources;
+        this.resources = compact(resources);
         this.status = Status.ACTIVE;
         addDomainEvent(() -> new ServiceCreatedDomainEvent(this));
     }
 
     public void updateResources(List<Resource> resources) {
-        this.resources = resources;
-        addDomainEvent(() -> new ServiceUpdatedDomainEvent(this));
+        var compacted = compact(resources);
+        var changes = ResourceChanges.diff(this.resources, compacted);
+        this.resources = compacted;
+        addDomainEvent(() -> new ServiceUpdatedDomainEvent(this, changes));
+    }
+
+    public void setResources(List<Resource> resources) {
+        this.resources = compact(resources);
     }
 
     public void delete() {
         this.status = Status.DELETED;
         addDomainEvent(() -> new ServiceDeletedDomainEvent(this));
     }
+
+    private static List<Resource> compact(List<Resource> resources) {
+        return resources != null ? Resource.compact(resources) : null;
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Slf4j
@@ -23,4 +24,11 @@ public class CreateServiceCommandHandler extends CommandHandler<CreateServiceCom
         return service;
     }
 
+    @Override
+    protected List<ServiceAggregate> handleBatch(List<CreateServiceCommand> commands) {
+        var services = serviceRepository.createAll(commands.stream().map(CreateServiceCommand::getResources).toList());
+        log.info("{} services created in batch", services.size());
+        return services;
+    }
+
 }
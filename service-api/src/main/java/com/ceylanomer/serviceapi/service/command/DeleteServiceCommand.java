@@ -1,6 +1,6 @@
 package com.ceylanomer.serviceapi.service.command;
 
-import com.ceylanomer.serviceapi.common.command.Command;
+import com.ceylanomer.serviceapi.common.command.AggregateCommand;
 import com.ceylanomer.serviceapi.service.persistence.Resource;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +9,16 @@ import java.util.List;
 
 @Data
 @Builder
-public class DeleteServiceCommand implements Command {
+public class DeleteServiceCommand implements AggregateCommand {
     private String id;
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+
+    @Override
+    public boolean coalescesWith(AggregateCommand next) {
+        return next instanceof DeleteServiceCommand;
+    }
 }
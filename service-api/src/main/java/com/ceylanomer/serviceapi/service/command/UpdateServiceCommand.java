@@ -1,6 +1,6 @@
 package com.ceylanomer.serviceapi.service.command;
 
-import com.ceylanomer.serviceapi.common.command.Command;
+import com.ceylanomer.serviceapi.common.command.AggregateCommand;
 import com.ceylanomer.serviceapi.service.persistence.Resource;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +9,17 @@ import java.util.List;
 
 @Data
 @Builder
-public class UpdateServiceCommand implements Command {
+public class UpdateServiceCommand implements AggregateCommand {
     private String id;
     private List<Resource> resources;
+
+    @Override
+    public String aggregateId() {
+        return id;
+    }
+
+    @Override
+    public boolean coalescesWith(AggregateCommand next) {
+        return next instanceof UpdateServiceCommand;
+    }
 }
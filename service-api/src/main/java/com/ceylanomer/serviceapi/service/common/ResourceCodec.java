@@ -0,0 +1,88 @@
+package com.ceylanomer.serviceapi.service.common;
+
+import com.ceylanomer.serviceapi.common.serialization.BinaryReader;
+import com.ceylanomer.serviceapi.common.serialization.BinaryWriter;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary layout of {@link Resource} and {@link Owner} messages shared by the service event and view encodings. The
+ * same field-number rules as {@link ServiceDomainEventCodec} apply.
+ */
+public final class ResourceCodec {
+    private static final int RESOURCE_ID = 1;
+    private static final int RESOURCE_OWNER = 2;
+
+    private static final int OWNER_ID = 1;
+    private static final int OWNER_NAME = 2;
+    private static final int OWNER_ACCOUNT_NUMBER = 3;
+    private static final int OWNER_LEVEL = 4;
+
+    private ResourceCodec() {
+    }
+
+    public static void writeResource(BinaryWriter writer, int fieldNumber, Resource resource) {
+        int resourceStart = writer.beginMessage(fieldNumber);
+        writer.writeStringField(RESOURCE_ID, resource.id());
+        List<Owner> owners = resource.owners();
+        for (int i = 0, size = owners.size(); i < size; i++) {
+            writeOwner(writer, RESOURCE_OWNER, owners.get(i));
+        }
+        writer.endMessage(resourceStart);
+    }
+
+    public static void writeOwner(BinaryWriter writer, int fieldNumber, Owner owner) {
+        int ownerStart = writer.beginMessage(fieldNumber);
+        writer.writeStringField(OWNER_ID, owner.id());
+        writer.writeStringField(OWNER_NAME, owner.name());
+        writer.writeStringField(OWNER_ACCOUNT_NUMBER, owner.accountNumber());
+        if (owner.level() != 0) {
+            writer.writeSignedVarintField(OWNER_LEVEL, owner.level());
+        }
+        writer.endMessage(ownerStart);
+    }
+
+    public static Resource readResource(BinaryReader reader) {
+        String id = null;
+        List<Owner> owners = null;
+        int previousLimit = reader.beginMessage();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (BinaryReader.fieldNumber(tag)) {
+                case RESOURCE_ID -> id = reader.readString();
+                case RESOURCE_OWNER -> {
+                    if (owners == null) {
+                        owners = new ArrayList<>();
+                    }
+                    owners.add(readOwner(reader));
+                }
+                default -> reader.skip(BinaryReader.wireType(tag));
+            }
+        }
+        reader.endMessage(previousLimit);
+        return new Resource(id, owners);
+    }
+
+    public static Owner readOwner(BinaryReader reader) {
+        String id = null;
+        String name = null;
+        String accountNumber = null;
+        int level = 0;
+        int previousLimit = reader.beginMessage();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (BinaryReader.fieldNumber(tag)) {
+                case OWNER_ID -> id = reader.readString();
+                case OWNER_NAME -> name = reader.readString();
+                case OWNER_ACCOUNT_NUMBER -> accountNumber = reader.readString();
+                case OWNER_LEVEL -> level = (int) reader.readSignedVarint();
+                default -> reader.skip(BinaryReader.wireType(tag));
+            }
+        }
+        reader.endMessage(previousLimit);
+        return new Owner(id, name, accountNumber, level);
+    }
+}
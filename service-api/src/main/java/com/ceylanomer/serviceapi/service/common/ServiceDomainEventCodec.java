@@ -0,0 +1,312 @@
+package com.ceylanomer.serviceapi.service.common;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventType;
+import com.ceylanomer.serviceapi.common.aggregate.Header;
+import com.ceylanomer.serviceapi.common.serialization.BinaryReader;
+import com.ceylanomer.serviceapi.common.serialization.BinaryWriter;
+import com.ceylanomer.serviceapi.service.event.ResourceChange;
+import com.ceylanomer.serviceapi.service.event.ResourceChangeType;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of {@link ServiceDomainEvent} for outbox and sink paths. Field numbers are part of
+ * the wire contract: new fields must take new numbers, removed numbers must never be reused, and decoders skip
+ * fields they do not know. {@link #FORMAT_VERSION} only changes for incompatible layout changes. Nothing persists
+ * events in this format yet: dead letters stay queryable documents and replay reads the write model, so the codec
+ * is not a bean; {@code ServiceDomainEventCodecBenchmark} compares it with the Jackson mapping.
+ */
+public class ServiceDomainEventCodec {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int EVENT_TYPE = 1;
+    private static final int EVENT_ID = 2;
+    private static final int EVENT_VERSION = 3;
+    private static final int EVENT_TIMESTAMP = 4;
+    private static final int EVENT_MESSAGE_ID_MOST_SIGNIFICANT = 5;
+    private static final int EVENT_MESSAGE_ID_LEAST_SIGNIFICANT = 6;
+    private static final int EVENT_MESSAGE_ID = 7;
+    private static final int EVENT_RESOURCE = 8;
+    private static final int EVENT_STATUS = 9;
+    private static final int EVENT_CHANGE = 10;
+
+    private static final int CHANGE_TYPE = 1;
+    private static final int CHANGE_RESOURCE_ID = 2;
+    private static final int CHANGE_RESOURCE = 3;
+    private static final int CHANGE_OWNER_ID = 4;
+    private static final int CHANGE_OWNER = 5;
+    private static final int CHANGE_RESOURCES = 6;
+
+    private static final int TYPE_CREATED = 1;
+    private static final int TYPE_UPDATED = 2;
+    private static final int TYPE_DELETED = 3;
+
+    private static final int STATUS_ACTIVE = 1;
+    private static final int STATUS_DELETED = 2;
+
+    private final ThreadLocal<BinaryWriter> writers = ThreadLocal.withInitial(BinaryWriter::new);
+    private final ThreadLocal<BinaryReader> readers = ThreadLocal.withInitial(BinaryReader::new);
+
+    public byte[] encode(ServiceDomainEvent event) {
+        return encode(event, writers.get()).toByteArray();
+    }
+
+    public BinaryWriter encode(ServiceDomainEvent event, BinaryWriter writer) {
+        writer.begin(FORMAT_VERSION);
+        writer.writeVarintField(EVENT_TYPE, typeCode(event.getType()));
+        writer.writeStringField(EVENT_ID, event.getId());
+        Header header = event.getHeader();
+        if (header != null) {
+            if (header.getVersion() != null) {
+                writer.writeVarintField(EVENT_VERSION, header.getVersion());
+            }
+            if (header.getTimeStamp() != null) {
+                writer.writeSignedVarintField(EVENT_TIMESTAMP, header.getTimeStamp().getTime());
+            }
+            writeMessageId(writer, header.getMessageId());
+        }
+        switch (event) {
+            case ServiceCreatedDomainEvent created -> writeResources(writer, created.getResources());
+            case ServiceUpdatedDomainEvent updated -> writeChanges(writer, updated.getChanges());
+            case ServiceDeletedDomainEvent deleted -> {
+                if (deleted.getStatus() != null) {
+                    writer.writeVarintField(EVENT_STATUS, statusCode(deleted.getStatus()));
+                }
+            }
+            default -> {
+            }
+        }
+        return writer.finish();
+    }
+
+    public ServiceDomainEvent decode(byte[] bytes) {
+        return decode(bytes, 0, bytes.length);
+    }
+
+    public ServiceDomainEvent decode(byte[] bytes, int offset, int length) {
+        BinaryReader reader = readers.get().reset(bytes, offset, length);
+        if (reader.formatVersion() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported service event format version " + reader.formatVersion());
+        }
+        int type = 0;
+        String id = null;
+        Header header = new Header();
+        long messageIdMostSignificant = 0;
+        long messageIdLeastSignificant = 0;
+        boolean uuidMessageId = false;
+        List<Resource> resources = null;
+        List<ResourceChange> changes = null;
+        Status status = null;
+
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (BinaryReader.fieldNumber(tag)) {
+                case EVENT_TYPE -> type = (int) reader.readVarint();
+                case EVENT_ID -> id = reader.readString();
+                case EVENT_VERSION -> header.setVersion(reader.readVarint());
+                case EVENT_TIMESTAMP -> header.setTimeStamp(new Date(reader.readSignedVarint()));
+                case EVENT_MESSAGE_ID_MOST_SIGNIFICANT -> {
+                    messageIdMostSignificant = reader.readFixed64();
+                    uuidMessageId = true;
+                }
+                case EVENT_MESSAGE_ID_LEAST_SIGNIFICANT -> messageIdLeastSignificant = reader.readFixed64();
+                case EVENT_MESSAGE_ID -> header.setMessageId(reader.readString());
+                case EVENT_RESOURCE -> {
+                    if (resources == null) {
+                        resources = new ArrayList<>();
+                    }
+                    resources.add(ResourceCodec.readResource(reader));
+                }
+                case EVENT_CHANGE -> {
+                    if (changes == null) {
+                        changes = new ArrayList<>();
+                    }
+                    changes.add(readChange(reader));
+                }
+                case EVENT_STATUS -> status = statusOf(reader.readVarint());
+                default -> reader.skip(BinaryReader.wireType(tag));
+            }
+        }
+        if (uuidMessageId) {
+            header.setMessageId(new UUID(messageIdMostSignificant, messageIdLeastSignificant).toString());
+        }
+
+        ServiceDomainEvent event = switch (type) {
+            case TYPE_CREATED -> {
+                var created = new ServiceCreatedDomainEvent();
+                created.setResources(resources != null ? resources : new ArrayList<>());
+                created.setType(DomainEventType.SERVICE_CREATED);
+                yield created;
+            }
+            case TYPE_UPDATED -> {
+                var updated = new ServiceUpdatedDomainEvent();
+                updated.setChanges(changes != null ? changes : new ArrayList<>());
+                updated.setType(DomainEventType.SERVICE_UPDATED);
+                yield updated;
+            }
+            case TYPE_DELETED -> {
+                var deleted = new ServiceDeletedDomainEvent();
+                deleted.setStatus(status);
+                deleted.setType(DomainEventType.SERVICE_DELETED);
+                yield deleted;
+            }
+            default -> throw new IllegalArgumentException("Unknown service event type code " + type);
+        };
+        event.setId(id);
+        event.setHeader(header);
+        return event;
+    }
+
+    private void writeResources(BinaryWriter writer, List<Resource> resources) {
+        if (resources == null) {
+            return;
+        }
+        for (int i = 0, size = resources.size(); i < size; i++) {
+            ResourceCodec.writeResource(writer, EVENT_RESOURCE, resources.get(i));
+        }
+    }
+
+    private void writeChanges(BinaryWriter writer, List<ResourceChange> changes) {
+        if (changes == null) {
+            return;
+        }
+        for (int i = 0, size = changes.size(); i < size; i++) {
+            ResourceChange change = changes.get(i);
+            int changeStart = writer.beginMessage(EVENT_CHANGE);
+            writer.writeVarintField(CHANGE_TYPE, changeTypeCode(change.getType()));
+            writer.writeStringField(CHANGE_RESOURCE_ID, change.getResourceId());
+            if (change.getResource() != null) {
+                ResourceCodec.writeResource(writer, CHANGE_RESOURCE, change.getResource());
+            }
+            writer.writeStringField(CHANGE_OWNER_ID, change.getOwnerId());
+            if (change.getOwner() != null) {
+                ResourceCodec.writeOwner(writer, CHANGE_OWNER, change.getOwner());
+            }
+            if (change.getResources() != null) {
+                for (int j = 0, count = change.getResources().size(); j < count; j++) {
+                    ResourceCodec.writeResource(writer, CHANGE_RESOURCES, change.getResources().get(j));
+                }
+            }
+            writer.endMessage(changeStart);
+        }
+    }
+
+    private ResourceChange readChange(BinaryReader reader) {
+        var change = new ResourceChange();
+        List<Resource> resources = null;
+        int previousLimit = reader.beginMessage();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (BinaryReader.fieldNumber(tag)) {
+                case CHANGE_TYPE -> change.setType(changeTypeOf(reader.readVarint()));
+                case CHANGE_RESOURCE_ID -> change.setResourceId(reader.readString());
+                case CHANGE_RESOURCE -> change.setResource(ResourceCodec.readResource(reader));
+                case CHANGE_OWNER_ID -> change.setOwnerId(reader.readString());
+                case CHANGE_OWNER -> change.setOwner(ResourceCodec.readOwner(reader));
+                case CHANGE_RESOURCES -> {
+                    if (resources == null) {
+                        resources = new ArrayList<>();
+                    }
+                    resources.add(ResourceCodec.readResource(reader));
+                }
+                default -> reader.skip(BinaryReader.wireType(tag));
+            }
+        }
+        if (resources != null) {
+            change.setResources(List.copyOf(resources));
+        } else if (change.getType() == ResourceChangeType.RESOURCES_REPLACED) {
+            change.setResources(List.of());
+        }
+        reader.endMessage(previousLimit);
+        return change;
+    }
+
+    private static void writeMessageId(BinaryWriter writer, String messageId) {
+        if (messageId == null) {
+            return;
+        }
+        if (isUuid(messageId)) {
+            writer.writeFixed64Field(EVENT_MESSAGE_ID_MOST_SIGNIFICANT,
+                    parseHex(messageId, 0, 8) << 32 | parseHex(messageId, 9, 13) << 16 | parseHex(messageId, 14, 18));
+            writer.writeFixed64Field(EVENT_MESSAGE_ID_LEAST_SIGNIFICANT,
+                    parseHex(messageId, 19, 23) << 48 | parseHex(messageId, 24, 36));
+            return;
+        }
+        writer.writeStringField(EVENT_MESSAGE_ID, messageId);
+    }
+
+    private static boolean isUuid(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            boolean valid = (i == 8 || i == 13 || i == 18 || i == 23) ? c == '-' : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | Character.digit(value.charAt(i), 16);
+        }
+        return result;
+    }
+
+    private static int typeCode(DomainEventType type) {
+        return switch (type) {
+            case SERVICE_CREATED -> TYPE_CREATED;
+            case SERVICE_UPDATED -> TYPE_UPDATED;
+            case SERVICE_DELETED -> TYPE_DELETED;
+        };
+    }
+
+    private static int changeTypeCode(ResourceChangeType type) {
+        return switch (type) {
+            case RESOURCE_ADDED -> 1;
+            case RESOURCE_REMOVED -> 2;
+            case OWNER_ADDED -> 3;
+            case OWNER_REMOVED -> 4;
+            case OWNER_CHANGED -> 5;
+            case RESOURCES_REPLACED -> 6;
+        };
+    }
+
+    private static ResourceChangeType changeTypeOf(long code) {
+        return switch ((int) code) {
+            case 1 -> ResourceChangeType.RESOURCE_ADDED;
+            case 2 -> ResourceChangeType.RESOURCE_REMOVED;
+            case 3 -> ResourceChangeType.OWNER_ADDED;
+            case 4 -> ResourceChangeType.OWNER_REMOVED;
+            case 5 -> ResourceChangeType.OWNER_CHANGED;
+            case 6 -> ResourceChangeType.RESOURCES_REPLACED;
+            default -> throw new IllegalArgumentException("Unknown resource change type code " + code);
+        };
+    }
+
+    private static int statusCode(Status status) {
+        return switch (status) {
+            case ACTIVE -> STATUS_ACTIVE;
+            case DELETED -> STATUS_DELETED;
+        };
+    }
+
+    private static Status statusOf(long code) {
+        if (code == STATUS_ACTIVE) {
+            return Status.ACTIVE;
+        }
+        return code == STATUS_DELETED ? Status.DELETED : null;
+    }
+}
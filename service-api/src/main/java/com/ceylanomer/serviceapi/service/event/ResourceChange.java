@@ -0,0 +1,47 @@
+package com.ceylanomer.serviceapi.service.event;
+
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceChange {
+    private ResourceChangeType type;
+    private String resourceId;
+    private Resource resource;
+    private String ownerId;
+    private Owner owner;
+    private List<Resource> resources;
+
+    public static ResourceChange resourceAdded(Resource resource) {
+        return ResourceChange.builder().type(ResourceChangeType.RESOURCE_ADDED).resourceId(resource.id()).resource(resource).build();
+    }
+
+    public static ResourceChange resourceRemoved(String resourceId) {
+        return ResourceChange.builder().type(ResourceChangeType.RESOURCE_REMOVED).resourceId(resourceId).build();
+    }
+
+    public static ResourceChange ownerAdded(String resourceId, Owner owner) {
+        return ResourceChange.builder().type(ResourceChangeType.OWNER_ADDED).resourceId(resourceId).ownerId(owner.id()).owner(owner).build();
+    }
+
+    public static ResourceChange ownerRemoved(String resourceId, String ownerId) {
+        return ResourceChange.builder().type(ResourceChangeType.OWNER_REMOVED).resourceId(resourceId).ownerId(ownerId).build();
+    }
+
+    public static ResourceChange ownerChanged(String resourceId, Owner owner) {
+        return ResourceChange.builder().type(ResourceChangeType.OWNER_CHANGED).resourceId(resourceId).ownerId(owner.id()).owner(owner).build();
+    }
+
+    public static ResourceChange resourcesReplaced(List<Resource> resources) {
+        return ResourceChange.builder().type(ResourceChangeType.RESOURCES_REPLACED).resources(resources).build();
+    }
+}
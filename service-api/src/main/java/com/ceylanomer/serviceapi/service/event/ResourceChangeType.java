@@ -0,0 +1,10 @@
+package com.ceylanomer.serviceapi.service.event;
+
+public enum ResourceChangeType {
+    RESOURCE_ADDED,
+    RESOURCE_REMOVED,
+    OWNER_ADDED,
+    OWNER_REMOVED,
+    OWNER_CHANGED,
+    RESOURCES_REPLACED
+}
@@ -0,0 +1,129 @@
+package com.ceylanomer.serviceapi.service.event;
+
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Structural diff between two resource lists. Resources are matched by id and owners by id within their resource,
+ * and applying changes appends added resources and owners at the end. When that would not reproduce the new list,
+ * because entries were reordered or ids repeat, the diff is a single {@code RESOURCES_REPLACED} change instead.
+ */
+public final class ResourceChanges {
+
+    private ResourceChanges() {
+    }
+
+    public static List<ResourceChange> diff(List<Resource> previous, List<Resource> current) {
+        Map<String, Resource> previousById = indexResources(previous);
+        Map<String, Resource> currentById = indexResources(current);
+        List<ResourceChange> changes = new ArrayList<>();
+
+        previousById.keySet().stream()
+                .filter(resourceId -> !currentById.containsKey(resourceId))
+                .forEach(resourceId -> changes.add(ResourceChange.resourceRemoved(resourceId)));
+
+        currentById.forEach((resourceId, resource) -> {
+            if (!previousById.containsKey(resourceId)) {
+                changes.add(ResourceChange.resourceAdded(resource));
+            } else {
+                diffOwners(resourceId, previousById.get(resourceId).owners(), resource.owners(), changes);
+            }
+        });
+        List<Resource> expected = current != null ? current : List.of();
+        if (!apply(previous, changes).equals(expected)) {
+            return List.of(ResourceChange.resourcesReplaced(List.copyOf(expected)));
+        }
+        return changes;
+    }
+
+    public static List<Resource> apply(List<Resource> resources, List<ResourceChange> changes) {
+        int first = 0;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).getType() == ResourceChangeType.RESOURCES_REPLACED) {
+                resources = changes.get(i).getResources();
+                first = i + 1;
+                break;
+            }
+        }
+        if (first > 0 && first == changes.size()) {
+            return resources != null ? List.copyOf(resources) : List.of();
+        }
+        Map<String, List<Owner>> ownersByResource = new LinkedHashMap<>();
+        if (resources != null) {
+            resources.forEach(resource -> ownersByResource.put(resource.id(), new ArrayList<>(resource.owners())));
+        }
+        for (ResourceChange change : changes.subList(first, changes.size())) {
+            switch (change.getType()) {
+                case RESOURCE_ADDED -> ownersByResource.put(change.getResourceId(), new ArrayList<>(change.getResource().owners()));
+                case RESOURCE_REMOVED -> ownersByResource.remove(change.getResourceId());
+                case OWNER_ADDED, OWNER_CHANGED -> {
+                    List<Owner> owners = ownersByResource.computeIfAbsent(change.getResourceId(), id -> new ArrayList<>());
+                    int index = indexOfOwner(owners, change.getOwnerId());
+                    if (index >= 0) {
+                        owners.set(index, change.getOwner());
+                    } else {
+                        owners.add(change.getOwner());
+                    }
+                }
+                case OWNER_REMOVED -> {
+                    List<Owner> owners = ownersByResource.get(change.getResourceId());
+                    if (owners != null) {
+                        owners.removeIf(owner -> Objects.equals(owner.id(), change.getOwnerId()));
+                    }
+                }
+                case RESOURCES_REPLACED -> throw new IllegalStateException("Replacements are applied before the loop");
+            }
+        }
+        List<Resource> applied = new ArrayList<>(ownersByResource.size());
+        ownersByResource.forEach((resourceId, owners) -> applied.add(new Resource(resourceId, owners)));
+        return List.copyOf(applied);
+    }
+
+    private static void diffOwners(String resourceId, List<Owner> previous, List<Owner> current, List<ResourceChange> changes) {
+        Map<String, Owner> previousById = indexOwners(previous);
+        Map<String, Owner> currentById = indexOwners(current);
+
+        previousById.keySet().stream()
+                .filter(ownerId -> !currentById.containsKey(ownerId))
+                .forEach(ownerId -> changes.add(ResourceChange.ownerRemoved(resourceId, ownerId)));
+
+        currentById.forEach((ownerId, owner) -> {
+            if (!previousById.containsKey(ownerId)) {
+                changes.add(ResourceChange.ownerAdded(resourceId, owner));
+            } else if (!Objects.equals(previousById.get(ownerId), owner)) {
+                changes.add(ResourceChange.ownerChanged(resourceId, owner));
+            }
+        });
+    }
+
+    private static Map<String, Resource> indexResources(List<Resource> resources) {
+        Map<String, Resource> index = new LinkedHashMap<>();
+        if (resources != null) {
+            resources.forEach(resource -> index.put(resource.id(), resource));
+        }
+        return index;
+    }
+
+    private static Map<String, Owner> indexOwners(List<Owner> owners) {
+        Map<String, Owner> index = new LinkedHashMap<>();
+        if (owners != null) {
+            owners.forEach(owner -> index.put(owner.id(), owner));
+        }
+        return index;
+    }
+
+    private static int indexOfOwner(List<Owner> owners, String ownerId) {
+        for (int i = 0; i < owners.size(); i++) {
+            if (Objects.equals(owners.get(i).id(), ownerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
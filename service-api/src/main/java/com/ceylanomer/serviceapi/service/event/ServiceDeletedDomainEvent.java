@@ -16,7 +16,6 @@ import java.util.List;
 @NoArgsConstructor
 @ToString
 public class ServiceDeletedDomainEvent extends ServiceDomainEvent {
-    private String id;
     private Status status;
     public ServiceDeletedDomainEvent(ServiceAggregate service) {
         super(service, DomainEventType.SERVICE_DELETED);
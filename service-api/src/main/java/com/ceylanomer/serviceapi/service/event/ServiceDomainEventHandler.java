@@ -12,6 +12,11 @@ import org.springframework.stereotype.Service;
 public class ServiceDomainEventHandler extends DomainEventHandler<ServiceDomainEvent> {
     @Override
     protected void handle(ServiceDomainEvent event) {
-        log.info("Service Domain Event created: {}", event);
+        log.info("Service domain event {} created for service {} with message {}", event.getType(), event.getId(), event.messageId());
+    }
+
+    @Override
+    public void replay(ServiceDomainEvent event) {
+        // Replayed events were logged when they first happened.
     }
 }
@@ -15,9 +15,13 @@ import java.util.List;
 @NoArgsConstructor
 @ToString
 public class ServiceUpdatedDomainEvent extends ServiceDomainEvent {
-    private List<Resource> resources;
-    public ServiceUpdatedDomainEvent(ServiceAggregate service) {
+    private List<ResourceChange> changes;
+    public ServiceUpdatedDomainEvent(ServiceAggregate service, List<ResourceChange> changes) {
         super(service, DomainEventType.SERVICE_UPDATED);
-        this.resources = service.getResources();
+        this.changes = changes;
+    }
+
+    public List<Resource> applyTo(List<Resource> resources) {
+        return ResourceChanges.apply(resources, changes);
     }
 }
@@ -0,0 +1,75 @@
+package com.ceylanomer.serviceapi.service.grpc;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.grpc.v1.Owner;
+import com.ceylanomer.serviceapi.service.grpc.v1.Resource;
+import com.ceylanomer.serviceapi.service.grpc.v1.Service;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequestLimitProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts between the generated protobuf messages and the domain records. Proto3 strings cannot be null, so an unset
+ * name or account number arrives as an empty string and is stored as {@code null}, the same as an omitted JSON field.
+ */
+final class ServiceGrpcMapper {
+
+    private ServiceGrpcMapper() {
+    }
+
+    static Service toMessage(ServiceAggregate service) {
+        Service.Builder message = Service.newBuilder().setId(service.getId());
+        if (service.getResources() != null) {
+            for (var resource : service.getResources()) {
+                message.addResources(toMessage(resource));
+            }
+        }
+        return message.build();
+    }
+
+    static List<com.ceylanomer.serviceapi.service.persistence.Resource> toResources(List<Resource> messages, ServiceRequestLimitProperties limits) {
+        if (messages.size() > limits.getMaxResources()) {
+            throw new ServiceApiPayloadTooLargeException("resources", limits.getMaxResources());
+        }
+        List<com.ceylanomer.serviceapi.service.persistence.Resource> resources = new ArrayList<>(messages.size());
+        for (Resource message : messages) {
+            if (message.getOwnersCount() > limits.getMaxOwnersPerResource()) {
+                throw new ServiceApiPayloadTooLargeException("owners per resource", limits.getMaxOwnersPerResource());
+            }
+            List<com.ceylanomer.serviceapi.service.persistence.Owner> owners = new ArrayList<>(message.getOwnersCount());
+            for (Owner owner : message.getOwnersList()) {
+                owners.add(new com.ceylanomer.serviceapi.service.persistence.Owner(emptyToNull(owner.getId()),
+                        emptyToNull(owner.getName()), emptyToNull(owner.getAccountNumber()), owner.getLevel()));
+            }
+            resources.add(new com.ceylanomer.serviceapi.service.persistence.Resource(emptyToNull(message.getId()), owners));
+        }
+        return resources;
+    }
+
+    private static Resource toMessage(com.ceylanomer.serviceapi.service.persistence.Resource resource) {
+        Resource.Builder message = Resource.newBuilder();
+        if (resource.id() != null) {
+            message.setId(resource.id());
+        }
+        for (var owner : resource.owners()) {
+            Owner.Builder ownerMessage = Owner.newBuilder().setLevel(owner.level());
+            if (owner.id() != null) {
+                ownerMessage.setId(owner.id());
+            }
+            if (owner.name() != null) {
+                ownerMessage.setName(owner.name());
+            }
+            if (owner.accountNumber() != null) {
+                ownerMessage.setAccountNumber(owner.accountNumber());
+            }
+            message.addOwners(ownerMessage);
+        }
+        return message.build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
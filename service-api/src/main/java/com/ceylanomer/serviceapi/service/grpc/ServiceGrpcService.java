@@ -0,0 +1,166 @@
+package com.ceylanomer.serviceapi.service.grpc;
+
+import com.ceylanomer.serviceapi.common.command.CommandBus;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.common.grpc.GrpcExceptionTranslator;
+import com.ceylanomer.serviceapi.common.grpc.GrpcServerProperties;
+import com.ceylanomer.serviceapi.common.query.QueryBus;
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.command.CreateServiceCommand;
+import com.ceylanomer.serviceapi.service.grpc.v1.BatchGetServiceResult;
+import com.ceylanomer.serviceapi.service.grpc.v1.BatchGetServicesRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.BulkCreateServicesResponse;
+import com.ceylanomer.serviceapi.service.grpc.v1.CreateServiceRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.ErrorDetail;
+import com.ceylanomer.serviceapi.service.grpc.v1.GetServiceRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.Service;
+import com.ceylanomer.serviceapi.service.grpc.v1.ServiceApiGrpc;
+import com.ceylanomer.serviceapi.service.query.GetServiceByIdQuery;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequestLimitProperties;
+import io.grpc.Metadata;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * gRPC face of {@code /api/services}, built on the same query and command buses as the REST controller.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceGrpcService extends ServiceApiGrpc.ServiceApiImplBase {
+    static final Metadata.Key<String> CREATED_COUNT_KEY = Metadata.Key.of("created-count", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final QueryBus queryBus;
+    private final CommandBus commandBus;
+    private final GrpcExceptionTranslator grpcExceptionTranslator;
+    private final GrpcServerProperties grpcServerProperties;
+    private final ServiceRequestLimitProperties limits;
+
+    @Override
+    public void getService(GetServiceRequest request, StreamObserver<Service> responseObserver) {
+        log.info("Fetching service with id: {}", request.getId());
+        try {
+            responseObserver.onNext(ServiceGrpcMapper.toMessage(find(request.getId())));
+            responseObserver.onCompleted();
+        } catch (RuntimeException exception) {
+            responseObserver.onError(grpcExceptionTranslator.translate(exception));
+        }
+    }
+
+    /**
+     * Looks services up only while the client can take more, so a slow reader never makes the server buffer the whole
+     * batch. The ready handler and this method run serialized on the call's executor.
+     */
+    @Override
+    public void batchGetServices(BatchGetServicesRequest request, StreamObserver<BatchGetServiceResult> responseObserver) {
+        log.info("Fetching {} services in batch", request.getIdsCount());
+        if (request.getIdsCount() > limits.getMaxResources()) {
+            responseObserver.onError(grpcExceptionTranslator.translate(new ServiceApiPayloadTooLargeException("ids", limits.getMaxResources())));
+            return;
+        }
+        var observer = (ServerCallStreamObserver<BatchGetServiceResult>) responseObserver;
+        Iterator<String> ids = request.getIdsList().iterator();
+        boolean[] completed = {false};
+        Runnable drain = () -> {
+            while (!completed[0] && !observer.isCancelled() && observer.isReady() && ids.hasNext()) {
+                observer.onNext(lookup(ids.next()));
+            }
+            if (!completed[0] && !ids.hasNext() && !observer.isCancelled()) {
+                completed[0] = true;
+                observer.onCompleted();
+            }
+        };
+        observer.setOnCancelHandler(() -> log.debug("Batch fetch cancelled by the client"));
+        observer.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    /**
+     * Creates streamed services in command batches of {@code bulkChunkSize}. The next message is only requested once
+     * the current one is handled, so a chunk being written holds back the client instead of piling up in memory.
+     */
+    @Override
+    public StreamObserver<CreateServiceRequest> bulkCreateServices(StreamObserver<BulkCreateServicesResponse> responseObserver) {
+        return new StreamObserver<>() {
+            private final List<CreateServiceCommand> pending = new ArrayList<>();
+            private final BulkCreateServicesResponse.Builder response = BulkCreateServicesResponse.newBuilder();
+            private boolean failed;
+
+            @Override
+            public void onNext(CreateServiceRequest request) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    pending.add(CreateServiceCommand.builder().resources(ServiceGrpcMapper.toResources(request.getResourcesList(), limits)).build());
+                    if (pending.size() >= Math.max(1, grpcServerProperties.getBulkChunkSize())) {
+                        flush();
+                    }
+                } catch (RuntimeException exception) {
+                    fail(exception);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                log.debug("Bulk create aborted by the client after {} services: {}", response.getIdsCount(), throwable.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (failed) {
+                    return;
+                }
+                try {
+                    flush();
+                    log.info("{} services created in bulk", response.getIdsCount());
+                    responseObserver.onNext(response.build());
+                    responseObserver.onCompleted();
+                } catch (RuntimeException exception) {
+                    fail(exception);
+                }
+            }
+
+            private void flush() {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                List<ServiceAggregate> services = commandBus.executeAll(List.copyOf(pending));
+                pending.clear();
+                services.forEach(service -> response.addIds(service.getId()));
+            }
+
+            private void fail(RuntimeException exception) {
+                failed = true;
+                pending.clear();
+                StatusRuntimeException status = grpcExceptionTranslator.translate(exception);
+                Metadata trailers = status.getTrailers() != null ? status.getTrailers() : new Metadata();
+                trailers.put(CREATED_COUNT_KEY, String.valueOf(response.getIdsCount()));
+                responseObserver.onError(status.getStatus().asRuntimeException(trailers));
+            }
+        };
+    }
+
+    private BatchGetServiceResult lookup(String id) {
+        BatchGetServiceResult.Builder result = BatchGetServiceResult.newBuilder().setId(id);
+        try {
+            return result.setService(ServiceGrpcMapper.toMessage(find(id))).build();
+        } catch (RuntimeException exception) {
+            ErrorResponse error = grpcExceptionTranslator.describe(exception);
+            return result.setError(ErrorDetail.newBuilder().setCode(error.getCode()).setDescription(error.getDescription())).build();
+        }
+    }
+
+    private ServiceAggregate find(String id) {
+        return queryBus.execute(GetServiceByIdQuery.builder().id(id).build());
+    }
+}
@@ -1,15 +1,28 @@
 package com.ceylanomer.serviceapi.service.persistence;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Owner {
-    private String id;
-    private String name;
-    private String accountNumber;
-    private Integer level;
+import com.ceylanomer.serviceapi.common.serialization.StringDeduplicator;
+import org.springframework.data.annotation.PersistenceCreator;
+
+/**
+ * Immutable owner with a primitive level; a missing level reads as {@code 0}.
+ */
+public record Owner(String id, String name, String accountNumber, int level) {
+
+    @PersistenceCreator
+    static Owner of(String id, String name, String accountNumber, Integer level) {
+        return new Owner(id, name, accountNumber, level != null ? level : 0);
+    }
+
+    /**
+     * Returns this owner with its name and account number taken from {@code strings}, for copies that are kept long
+     * enough for the repeated values to matter.
+     */
+    public Owner dedupe(StringDeduplicator strings) {
+        String dedupedName = strings.dedupe(name);
+        String dedupedAccountNumber = strings.dedupe(accountNumber);
+        if (dedupedName == name && dedupedAccountNumber == accountNumber) {
+            return this;
+        }
+        return new Owner(id, dedupedName, dedupedAccountNumber, level);
+    }
 }
@@ -1,15 +1,40 @@
 package com.ceylanomer.serviceapi.service.persistence;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.ceylanomer.serviceapi.common.serialization.StringDeduplicator;
 
 import java.util.List;
+import java.util.Objects;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Resource {
-    private String id;
-    private List<Owner> owners;
+/**
+ * Immutable resource. Owners are held in an exact-size immutable list rather than a growable {@code ArrayList}; a
+ * missing owner list reads as empty and null entries are dropped.
+ */
+public record Resource(String id, List<Owner> owners) {
+
+    public Resource {
+        owners = compact(owners);
+    }
+
+    public Resource dedupe(StringDeduplicator strings) {
+        Owner[] deduped = new Owner[owners.size()];
+        for (int i = 0; i < deduped.length; i++) {
+            deduped[i] = owners.get(i).dedupe(strings);
+        }
+        return new Resource(id, List.of(deduped));
+    }
+
+    /**
+     * Copies {@code items} into an exact-size immutable list, skipping null entries that older documents may hold.
+     */
+    public static <T> List<T> compact(List<T> items) {
+        if (items == null) {
+            return List.of();
+        }
+        for (T item : items) {
+            if (item == null) {
+                return items.stream().filter(Objects::nonNull).toList();
+            }
+        }
+        return List.copyOf(items);
+    }
 }
@@ -23,12 +23,23 @@ public class ServiceDocument {
     private List<Resource> resources;
     @Field(value = "status")
     private Status status;
+    /**
+     * Bumped on every write, so it matches the version of the event that write published. Documents written
+     * before versioning have none and count as version 0.
+     */
+    @Field(value = "version")
+    private Long version;
 
     public ServiceAggregate toAggregate() {
         var doc = new ServiceAggregate();
         doc.setId(this.id);
         doc.setResources(this.resources);
         doc.setStatus(this.status);
+        doc.setVersion(currentVersion());
         return doc;
     }
+
+    public long currentVersion() {
+        return version != null ? version : 0L;
+    }
 }
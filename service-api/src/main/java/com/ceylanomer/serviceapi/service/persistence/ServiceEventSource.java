@@ -0,0 +1,54 @@
+package com.ceylanomer.serviceapi.service.persistence;
+
+import com.ceylanomer.serviceapi.common.replay.DomainEventSource;
+import com.ceylanomer.serviceapi.common.replay.ReplayRecord;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class ServiceEventSource implements DomainEventSource {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public String name() {
+        return "services";
+    }
+
+    @Override
+    public Stream<ReplayRecord> stream(String afterPosition) {
+        var query = new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+        if (afterPosition != null) {
+            query.addCriteria(Criteria.where("_id").gt(afterPosition));
+        }
+        return mongoTemplate.stream(query, ServiceDocument.class)
+                .flatMap(document -> snapshot(document).getDomainEvents().stream()
+                        .map(event -> new ReplayRecord(document.getId(), event)));
+    }
+
+    /**
+     * Replays the document as the events that lead to its current state, numbered so the last one carries the
+     * document version. A delete leaves the resources alone, so the created event stands for the version before it.
+     */
+    private static ServiceAggregate snapshot(ServiceDocument document) {
+        boolean deleted = document.getStatus() == Status.DELETED;
+        var service = new ServiceAggregate();
+        service.setId(document.getId());
+        service.setResources(document.getResources());
+        service.setStatus(Status.ACTIVE);
+        service.setVersion(document.currentVersion() - (deleted ? 2 : 1));
+        service.addDomainEvent(() -> new ServiceCreatedDomainEvent(service));
+        if (deleted) {
+            service.delete();
+        }
+        return service;
+    }
+}
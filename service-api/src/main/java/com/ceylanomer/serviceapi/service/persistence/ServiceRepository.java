@@ -3,67 +3,65 @@ package com.ceylanomer.serviceapi.service.persistence;
 import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
 import com.ceylanomer.serviceapi.service.ServiceAggregate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Repository
 @RequiredArgsConstructor
 public class ServiceRepository {
+    /**
+     * A new aggregate raises its created event at version 1.
+     */
+    private static final long CREATED_VERSION = 1L;
+
     private final ServiceMongoRepository serviceMongoRepository;
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
-    @Cacheable(value = "services", key = "#id")
     public ServiceAggregate retrieveServiceById(String id) {
-        lock.writeLock().lock();
-        try {
-            return serviceMongoRepository.findById(id).orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement")).toAggregate();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return serviceMongoRepository.findById(id).orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement")).toAggregate();
+    }
+
+    public List<ServiceAggregate> retrieveServicesByIds(Collection<String> ids) {
+        return serviceMongoRepository.findAllById(ids).stream().map(ServiceDocument::toAggregate).toList();
     }
 
     public ServiceAggregate create(List<Resource> resources) {
-        lock.writeLock().lock();
-        try {
-            var serviceDoc = serviceMongoRepository.save(ServiceDocument.builder()
-                    .resources(resources)
-                    .status(Status.ACTIVE)
-                    .build());
-            return new ServiceAggregate(serviceDoc.getId(), serviceDoc.getResources());
-        } finally {
-            lock.writeLock().unlock();
-        }
+        var serviceDoc = serviceMongoRepository.save(ServiceDocument.builder()
+                .resources(resources)
+                .status(Status.ACTIVE)
+                .version(CREATED_VERSION)
+                .build());
+        return new ServiceAggregate(serviceDoc.getId(), serviceDoc.getResources());
+    }
+
+    public List<ServiceAggregate> createAll(List<List<Resource>> resourceLists) {
+        var serviceDocs = serviceMongoRepository.saveAll(resourceLists.stream()
+                .map(resources -> ServiceDocument.builder()
+                        .resources(resources)
+                        .status(Status.ACTIVE)
+                        .version(CREATED_VERSION)
+                        .build())
+                .toList());
+        return serviceDocs.stream()
+                .map(serviceDoc -> new ServiceAggregate(serviceDoc.getId(), serviceDoc.getResources()))
+                .toList();
     }
 
-    @CachePut(value = "service", key = "#service.id")
     public ServiceAggregate update(ServiceAggregate service) {
-        lock.writeLock().lock();
-        try {
-            var serviceDoc = serviceMongoRepository.findById(service.getId())
-                    .orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement"));
-            serviceDoc.setResources(service.getResources());
-            serviceMongoRepository.save(serviceDoc);
-            return serviceDoc.toAggregate();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        var serviceDoc = serviceMongoRepository.findById(service.getId())
+                .orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement"));
+        serviceDoc.setResources(service.getResources());
+        serviceDoc.setVersion(serviceDoc.currentVersion() + 1);
+        serviceMongoRepository.save(serviceDoc);
+        return serviceDoc.toAggregate();
     }
 
-    @CacheEvict(value = "service", key = "#id")
     public void delete(String id) {
-        lock.writeLock().lock();
-        try {
-            var serviceDoc = serviceMongoRepository.findById(id)
-                    .orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement"));
-            serviceDoc.setStatus(Status.DELETED);
-            serviceMongoRepository.save(serviceDoc);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        var serviceDoc = serviceMongoRepository.findById(id)
+                .orElseThrow(() -> new ServiceApiDataNotFoundException("common.client.noSuchElement"));
+        serviceDoc.setStatus(Status.DELETED);
+        serviceDoc.setVersion(serviceDoc.currentVersion() + 1);
+        serviceMongoRepository.save(serviceDoc);
     }
 }
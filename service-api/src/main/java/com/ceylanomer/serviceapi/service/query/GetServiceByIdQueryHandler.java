@@ -1,22 +1,54 @@
 package com.ceylanomer.serviceapi.service.query;
 
-import com.ceylanomer.serviceapi.common.query.QueryHandler;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.query.CacheableQueryHandler;
+import com.ceylanomer.serviceapi.common.serialization.StringDeduplicator;
 import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
 import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.view.ActiveServiceView;
+import com.ceylanomer.serviceapi.service.view.ServiceViewDocument;
+import com.ceylanomer.serviceapi.service.view.ServiceViewMongoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class GetServiceByIdQueryHandler implements QueryHandler<GetServiceByIdQuery, ServiceAggregate> {
+public class GetServiceByIdQueryHandler implements CacheableQueryHandler<GetServiceByIdQuery, ServiceAggregate> {
 
+    private final ActiveServiceView activeServiceView;
+    private final ServiceViewMongoRepository serviceViewMongoRepository;
     private final ServiceRepository serviceRepository;
+    /**
+     * Owner names and account numbers repeat across services, so cached copies share them.
+     */
+    private final StringDeduplicator strings = new StringDeduplicator(4096);
 
     @Override
     public ServiceAggregate handle(GetServiceByIdQuery query) {
-        var service = serviceRepository.retrieveServiceById(query.getId());
+        return activeServiceView.find(query.getId())
+                .or(() -> serviceViewMongoRepository.findById(query.getId()).map(ServiceViewDocument::toAggregate))
+                .orElseGet(() -> serviceRepository.retrieveServiceById(query.getId()));
+    }
+
+    @Override
+    public ServiceAggregate toCached(ServiceAggregate service) {
+        if (service.getResources() != null) {
+            service.setResources(service.getResources().stream().map(resource -> resource.dedupe(strings)).toList());
+        }
         return service;
     }
+
+    @Override
+    public Collection<GetServiceByIdQuery> invalidatedBy(DomainEvent event) {
+        if (event instanceof ServiceDomainEvent) {
+            return List.of(GetServiceByIdQuery.builder().id(event.key()).build());
+        }
+        return List.of();
+    }
 }
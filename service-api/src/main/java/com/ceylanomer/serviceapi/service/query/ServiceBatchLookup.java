@@ -0,0 +1,183 @@
+package com.ceylanomer.serviceapi.service.query;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.view.ActiveServiceView;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Looks up many services at once and hands them to a {@link Sink} as they become available: services held by the
+ * active view first, then each {@code $in} chunk in the order the chunks complete, and the ids that were not found
+ * last, in request order. At most {@code parallelism} chunks are queried or waiting to be written at any time, so a
+ * lookup's footprint does not grow with the number of ids.
+ */
+@Slf4j
+@Service
+public class ServiceBatchLookup {
+
+    /**
+     * Receives the results of a lookup, always on the thread that called {@link #lookup}.
+     */
+    public interface Sink {
+        void found(List<ServiceAggregate> services) throws IOException;
+
+        void missing(List<String> ids) throws IOException;
+
+        void failed(List<String> ids) throws IOException;
+    }
+
+    private final ActiveServiceView activeServiceView;
+    private final ServiceRepository serviceRepository;
+    private final ServiceBatchLookupProperties properties;
+    private final ExecutorService executor;
+    private final Timer chunkTimer;
+    private final Counter viewHits;
+    private final Counter storeHits;
+    private final Counter misses;
+    private final Counter failures;
+
+    public ServiceBatchLookup(ActiveServiceView activeServiceView, ServiceRepository serviceRepository,
+                              ServiceBatchLookupProperties properties, MeterRegistry meterRegistry) {
+        this.activeServiceView = activeServiceView;
+        this.serviceRepository = serviceRepository;
+        this.properties = properties;
+        var snapshotFactory = ContextSnapshotFactory.builder().build();
+        this.executor = ContextExecutorService.wrap(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-lookup-", 0).factory()),
+                snapshotFactory::captureAll);
+        this.chunkTimer = meterRegistry.timer("service.batch.lookup.chunk");
+        this.viewHits = meterRegistry.counter("service.batch.lookup.ids", "result", "view");
+        this.storeHits = meterRegistry.counter("service.batch.lookup.ids", "result", "store");
+        this.misses = meterRegistry.counter("service.batch.lookup.ids", "result", "missing");
+        this.failures = meterRegistry.counter("service.batch.lookup.ids", "result", "failed");
+    }
+
+    public void lookup(Collection<String> ids, Sink sink) throws IOException {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<String> remaining = new ArrayList<>();
+        List<ServiceAggregate> cached = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            var service = activeServiceView.find(id);
+            if (service.isEmpty()) {
+                remaining.add(id);
+                continue;
+            }
+            cached.add(service.get());
+            if (cached.size() == chunkSize) {
+                emit(cached, sink);
+                cached = new ArrayList<>();
+            }
+        }
+        if (!cached.isEmpty()) {
+            emit(cached, sink);
+        }
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            chunks.add(remaining.subList(from, Math.min(from + chunkSize, remaining.size())));
+        }
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Chunk>> pending = new ArrayList<>(chunks.size());
+        List<List<String>> missingByChunk = new ArrayList<>(Collections.nCopies(chunks.size(), List.of()));
+        try {
+            int submitted = 0;
+            for (; submitted < chunks.size() && submitted < Math.max(1, properties.getParallelism()); submitted++) {
+                pending.add(submit(completion, submitted, chunks.get(submitted)));
+            }
+            for (int completed = 0; completed < chunks.size(); completed++) {
+                Chunk chunk = take(completion);
+                if (submitted < chunks.size()) {
+                    pending.add(submit(completion, submitted, chunks.get(submitted)));
+                    submitted++;
+                }
+                if (chunk.failed()) {
+                    failures.increment(chunk.ids().size());
+                    sink.failed(chunk.ids());
+                    continue;
+                }
+                storeHits.increment(chunk.services().size());
+                if (!chunk.services().isEmpty()) {
+                    sink.found(chunk.services());
+                }
+                Set<String> found = new HashSet<>();
+                chunk.services().forEach(service -> found.add(service.getId()));
+                missingByChunk.set(chunk.index(), chunk.ids().stream().filter(id -> !found.contains(id)).toList());
+            }
+        } catch (IOException | RuntimeException exception) {
+            // The client is gone or the lookup broke; stop the queries still running so they give back their connections.
+            pending.forEach(future -> future.cancel(true));
+            throw exception;
+        }
+        List<String> missing = missingByChunk.stream().flatMap(List::stream).toList();
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            sink.missing(missing);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void emit(List<ServiceAggregate> services, Sink sink) throws IOException {
+        viewHits.increment(services.size());
+        sink.found(services);
+    }
+
+    private Future<Chunk> submit(CompletionService<Chunk> completion, int index, List<String> ids) {
+        return completion.submit(() -> fetch(index, ids));
+    }
+
+    private Chunk fetch(int index, List<String> ids) {
+        try {
+            return new Chunk(index, ids, chunkTimer.record(() -> serviceRepository.retrieveServicesByIds(ids)));
+        } catch (RuntimeException exception) {
+            log.warn("Batch lookup of {} services failed", ids.size(), exception);
+            return new Chunk(index, ids, null);
+        }
+    }
+
+    private static Chunk take(CompletionService<Chunk> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Batch lookup interrupted");
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Batch lookup chunk failed", exception.getCause());
+        }
+    }
+
+    private record Chunk(int index, List<String> ids, List<ServiceAggregate> services) {
+        boolean failed() {
+            return services == null;
+        }
+    }
+}
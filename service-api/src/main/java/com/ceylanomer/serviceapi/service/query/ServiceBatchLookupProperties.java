@@ -0,0 +1,18 @@
+package com.ceylanomer.serviceapi.service.query;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.batch-lookup")
+public class ServiceBatchLookupProperties {
+    private int maxIds = 100_000;
+    /**
+     * Ids per {@code $in} query against Mongo.
+     */
+    private int chunkSize = 500;
+    /**
+     * Chunk queries in flight per lookup; each one holds a pooled Mongo connection while it runs.
+     */
+    private int parallelism = 4;
+}
@@ -2,7 +2,10 @@ package com.ceylanomer.serviceapi.service.rest;
 
 import com.ceylanomer.serviceapi.common.command.CommandBus;
 import com.ceylanomer.serviceapi.common.controller.BaseController;
+import com.ceylanomer.serviceapi.common.limit.Traffic;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
 import com.ceylanomer.serviceapi.common.query.QueryBus;
+import com.ceylanomer.serviceapi.common.response.DataResponse;
 import com.ceylanomer.serviceapi.common.response.Response;
 import com.ceylanomer.serviceapi.service.ServiceAggregate;
 import com.ceylanomer.serviceapi.service.command.DeleteServiceCommand;
@@ -11,11 +14,15 @@ import com.ceylanomer.serviceapi.service.rest.request.ServiceRequest;
 import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @Slf4j
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/services")
 public class ServiceController extends BaseController {
@@ -31,14 +38,22 @@ public class ServiceController extends BaseController {
 
     @PostMapping
     public Response<ServiceResponse> create(@Valid @RequestBody ServiceRequest request) {
-        log.info("Creating new service with request: {}", request);
+        log.info("Creating new service with {}", request.summary());
         ServiceAggregate response = commandBus.executeWithResponse(request.toCreateCommand());
         return respond(ServiceResponse.from(response));
     }
 
+    @PostMapping("/batch")
+    @Traffic(TrafficClass.BULK)
+    public Response<DataResponse<ServiceResponse>> createAll(@RequestBody List<@Valid ServiceRequest> requests) {
+        log.info("Creating {} services in batch", requests.size());
+        List<ServiceAggregate> services = commandBus.executeAll(requests.stream().map(ServiceRequest::toCreateCommand).toList());
+        return respond(services.stream().map(ServiceResponse::from).toList());
+    }
+
     @PutMapping("/{id}")
     public Response<ServiceResponse> update(@PathVariable String id, @Valid @RequestBody ServiceRequest request) {
-        log.info("Updating service with id: {} and request: {}", id, request);
+        log.info("Updating service with id: {} and {}", id, request.summary());
         ServiceAggregate service = commandBus.executeWithResponse(request.toUpdateCommand(id));
         return respond(ServiceResponse.from(service));
     }
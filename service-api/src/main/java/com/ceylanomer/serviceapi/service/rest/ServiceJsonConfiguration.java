@@ -0,0 +1,26 @@
+package com.ceylanomer.serviceapi.service.rest;
+
+import com.ceylanomer.serviceapi.common.response.DataResponse;
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.common.serialization.JsonHotTypes;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequest;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+
+@Configuration
+public class ServiceJsonConfiguration {
+
+    @Bean
+    public JsonHotTypes serviceJsonHotTypes() {
+        return new JsonHotTypes(
+                List.of(ResolvableType.forClassWithGenerics(Response.class, ServiceResponse.class).getType(),
+                        ResolvableType.forClassWithGenerics(Response.class,
+                                ResolvableType.forClassWithGenerics(DataResponse.class, ServiceResponse.class)).getType()),
+                List.of(ServiceRequest.class,
+                        ResolvableType.forClassWithGenerics(List.class, ServiceRequest.class).getType()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.ceylanomer.serviceapi.service.rest;
+
+import com.ceylanomer.serviceapi.common.exception.ErrorResponseCatalog;
+import com.ceylanomer.serviceapi.common.limit.Traffic;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.query.ServiceBatchLookup;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceLookupIds;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceLookupResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams many services as newline-delimited JSON, one line per id. Lines are written and flushed as soon as their
+ * chunk is read, so they are not in request order; ids that do not exist come last. The request thread does the
+ * writing, which keeps the lookup counted against the batch read admission until the last line is out.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/services")
+@Traffic(TrafficClass.BATCH_READ)
+public class ServiceLookupController {
+    private final ServiceBatchLookup serviceBatchLookup;
+    private final ErrorResponseCatalog errorResponses;
+    private final ObjectWriter writer;
+
+    public ServiceLookupController(ServiceBatchLookup serviceBatchLookup, ErrorResponseCatalog errorResponses,
+                                   ObjectMapper objectMapper) {
+        this.serviceBatchLookup = serviceBatchLookup;
+        this.errorResponses = errorResponses;
+        this.writer = objectMapper.writerFor(ServiceLookupResponse.class);
+    }
+
+    @PostMapping(path = "/lookup", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void lookup(@RequestBody ServiceLookupIds body, Locale locale, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        List<String> ids = body.ids();
+        log.info("Streaming lookup of {} services", ids.size());
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        serviceBatchLookup.lookup(ids, new NdjsonSink(response.getOutputStream(),
+                errorResponses.get("common.client.noSuchElement", locale).getError(),
+                errorResponses.get("common.system.error.occurred", locale).getError()));
+    }
+
+    private class NdjsonSink implements ServiceBatchLookup.Sink {
+        private final OutputStream out;
+        private final ErrorResponse notFound;
+        private final ErrorResponse systemError;
+
+        NdjsonSink(OutputStream out, ErrorResponse notFound, ErrorResponse systemError) {
+            this.out = out;
+            this.notFound = notFound;
+            this.systemError = systemError;
+        }
+
+        @Override
+        public void found(List<ServiceAggregate> services) throws IOException {
+            for (ServiceAggregate service : services) {
+                write(ServiceLookupResponse.from(service));
+            }
+            out.flush();
+        }
+
+        @Override
+        public void missing(List<String> ids) throws IOException {
+            writeErrors(ids, notFound);
+        }
+
+        @Override
+        public void failed(List<String> ids) throws IOException {
+            writeErrors(ids, systemError);
+        }
+
+        private void writeErrors(List<String> ids, ErrorResponse error) throws IOException {
+            for (String id : ids) {
+                write(ServiceLookupResponse.error(id, error));
+            }
+            out.flush();
+        }
+
+        private void write(ServiceLookupResponse line) throws IOException {
+            out.write(writer.writeValueAsBytes(line));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ceylanomer.serviceapi.service.rest;
+
+import com.ceylanomer.serviceapi.common.controller.BaseController;
+import com.ceylanomer.serviceapi.common.limit.Traffic;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
+import com.ceylanomer.serviceapi.common.replay.ReplayStatus;
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.service.view.ServiceViewRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/service-views")
+public class ServiceViewController extends BaseController {
+    private final ServiceViewRebuilder serviceViewRebuilder;
+
+    @PostMapping("/rebuild")
+    @Traffic(TrafficClass.BULK)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Response<ReplayStatus> rebuild() {
+        log.info("Rebuilding service views");
+        return respond(serviceViewRebuilder.rebuild());
+    }
+}
@@ -0,0 +1,51 @@
+package com.ceylanomer.serviceapi.service.rest;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventType;
+import com.ceylanomer.serviceapi.common.limit.Traffic;
+import com.ceylanomer.serviceapi.common.limit.TrafficClass;
+import com.ceylanomer.serviceapi.service.watch.ServiceWatchFilter;
+import com.ceylanomer.serviceapi.service.watch.ServiceWatchHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * Streams service changes as Server-Sent Events. Browsers cannot set {@code Last-Event-ID} on the first request, so
+ * the resume position is also accepted as the {@code lastEventId} parameter.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/services")
+@Traffic(TrafficClass.BATCH_READ)
+public class ServiceWatchController {
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final ServiceWatchHub serviceWatchHub;
+
+    @GetMapping(path = "/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watch(@RequestParam(name = "id", required = false) Set<String> ids,
+                            @RequestParam(name = "type", required = false) Set<DomainEventType> types,
+                            @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+                            @RequestParam(name = "lastEventId", required = false) String lastEventIdParameter) {
+        log.info("Watching services {} for {}", ids != null ? ids : "*", types != null ? types : "all changes");
+        return serviceWatchHub.watch(new ServiceWatchFilter(ids, types), lastEventId != null ? lastEventId : lastEventIdParameter);
+    }
+
+    @GetMapping(path = "/{id}/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchById(@PathVariable String id,
+                                @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+                                @RequestParam(name = "lastEventId", required = false) String lastEventIdParameter) {
+        log.info("Watching service with id: {}", id);
+        return serviceWatchHub.watch(ServiceWatchFilter.forService(id), lastEventId != null ? lastEventId : lastEventIdParameter);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import java.util.List;
+
+/**
+ * Body of a streamed lookup: a plain array of ids, read by {@link ServiceLookupIdsDeserializer}.
+ */
+public record ServiceLookupIds(List<String> ids) {
+}
@@ -0,0 +1,43 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.service.query.ServiceBatchLookupProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the id array of a lookup one token at a time and stops as soon as it holds more ids than
+ * {@code serviceapi.batch-lookup.max-ids}, so an oversized body is rejected without being read in full.
+ */
+@JsonComponent
+public class ServiceLookupIdsDeserializer extends StdDeserializer<ServiceLookupIds> {
+    private final ServiceBatchLookupProperties properties;
+
+    public ServiceLookupIdsDeserializer(ServiceBatchLookupProperties properties) {
+        super(ServiceLookupIds.class);
+        this.properties = properties;
+    }
+
+    @Override
+    public ServiceLookupIds deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            return (ServiceLookupIds) context.handleUnexpectedToken(ServiceLookupIds.class, parser);
+        }
+        List<String> ids = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (ids.size() >= properties.getMaxIds()) {
+                throw new ServiceApiPayloadTooLargeException("ids per lookup", properties.getMaxIds());
+            }
+            ids.add(parser.currentToken() == JsonToken.VALUE_NULL ? null : _parseString(parser, context, NullsConstantProvider.nuller()));
+        }
+        return new ServiceLookupIds(ids);
+    }
+}
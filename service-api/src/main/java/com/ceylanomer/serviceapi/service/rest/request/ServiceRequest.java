@@ -1,5 +1,6 @@
 package com.ceylanomer.serviceapi.service.rest.request;
 
+import com.ceylanomer.serviceapi.common.logging.LogSummary;
 import com.ceylanomer.serviceapi.service.command.CreateServiceCommand;
 import com.ceylanomer.serviceapi.service.command.UpdateServiceCommand;
 import com.ceylanomer.serviceapi.service.persistence.Resource;
@@ -26,4 +27,17 @@ public class ServiceRequest {
                 .resources(this.resources)
                 .build();
     }
+
+    public Object summary() {
+        return LogSummary.lazy(() -> {
+            int owners = 0;
+            if (resources != null) {
+                for (Resource resource : resources) {
+                    owners += resource.owners().size();
+                }
+            }
+            return "resources=" + (resources == null ? 0 : resources.size()) + ", owners=" + owners
+                    + ", resourceIds=" + LogSummary.ids(resources, Resource::id);
+        });
+    }
 }
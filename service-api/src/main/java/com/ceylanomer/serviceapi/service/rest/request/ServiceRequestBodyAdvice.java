@@ -0,0 +1,54 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.common.serialization.LimitedInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Enforces the body size limit for {@link ServiceRequest} payloads. A declared {@code Content-Length} over the limit
+ * is rejected before any byte is read, and the body stream fails once the limit is crossed for chunked requests.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServiceRequestBodyAdvice extends RequestBodyAdviceAdapter {
+    private final ServiceRequestLimitProperties limits;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        ResolvableType type = ResolvableType.forType(targetType);
+        return ServiceRequest.class.isAssignableFrom(type.toClass())
+                || ServiceRequest.class.isAssignableFrom(type.asCollection().getGeneric(0).toClass());
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        long maxBodySize = limits.getMaxBodySize().toBytes();
+        if (inputMessage.getHeaders().getContentLength() > maxBodySize) {
+            throw new ServiceApiPayloadTooLargeException("body bytes", maxBodySize);
+        }
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() throws IOException {
+                return new LimitedInputStream(inputMessage.getBody(), maxBodySize,
+                        () -> new ServiceApiPayloadTooLargeException("body bytes", maxBodySize));
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return inputMessage.getHeaders();
+            }
+        };
+    }
+}
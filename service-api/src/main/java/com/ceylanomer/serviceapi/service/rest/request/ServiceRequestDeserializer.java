@@ -0,0 +1,162 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.common.serialization.StringDeduplicator;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link ServiceRequest} token by token instead of binding through bean introspection. The request count of a
+ * batch body, the resource count of the whole body and the owners per resource are checked before each element is
+ * built, and every string goes through
+ * a {@link StringDeduplicator} shared by the body, so repeated owner names and account numbers are stored once.
+ */
+@JsonComponent
+public class ServiceRequestDeserializer extends StdDeserializer<ServiceRequest> {
+    private static final String STATE_ATTRIBUTE = ServiceRequestDeserializer.class.getName() + ".state";
+
+    private final ServiceRequestLimitProperties limits;
+
+    public ServiceRequestDeserializer(ServiceRequestLimitProperties limits) {
+        super(ServiceRequest.class);
+        this.limits = limits;
+    }
+
+    @Override
+    public ServiceRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (ServiceRequest) context.handleUnexpectedToken(ServiceRequest.class, parser);
+        }
+        ParseState state = state(context);
+        if (++state.requests > limits.getMaxBatchSize()) {
+            throw new ServiceApiPayloadTooLargeException("services per batch", limits.getMaxBatchSize());
+        }
+        ServiceRequest request = new ServiceRequest();
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if ("resources".equals(field)) {
+                request.setResources(readResources(parser, context, state));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return request;
+    }
+
+    private List<Resource> readResources(JsonParser parser, DeserializationContext context, ParseState state) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.isExpectedStartArrayToken()) {
+            return context.reportInputMismatch(this, "Expected an array of resources");
+        }
+        List<Resource> resources = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (++state.resources > limits.getMaxResources()) {
+                throw new ServiceApiPayloadTooLargeException("resources", limits.getMaxResources());
+            }
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return context.reportInputMismatch(this, "Resources must not contain null");
+            }
+            resources.add(readResource(parser, context, state));
+        }
+        return resources;
+    }
+
+    private Resource readResource(JsonParser parser, DeserializationContext context, ParseState state) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (Resource) context.handleUnexpectedToken(Resource.class, parser);
+        }
+        String id = null;
+        List<Owner> owners = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = readString(parser, context, state);
+                case "owners" -> owners = readOwners(parser, context, state);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Resource(id, owners);
+    }
+
+    private List<Owner> readOwners(JsonParser parser, DeserializationContext context, ParseState state) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.isExpectedStartArrayToken()) {
+            return context.reportInputMismatch(this, "Expected an array of owners");
+        }
+        List<Owner> owners = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (owners.size() >= limits.getMaxOwnersPerResource()) {
+                throw new ServiceApiPayloadTooLargeException("owners per resource", limits.getMaxOwnersPerResource());
+            }
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return context.reportInputMismatch(this, "Owners must not contain null");
+            }
+            owners.add(readOwner(parser, context, state));
+        }
+        return owners;
+    }
+
+    private Owner readOwner(JsonParser parser, DeserializationContext context, ParseState state) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (Owner) context.handleUnexpectedToken(Owner.class, parser);
+        }
+        String id = null;
+        String name = null;
+        String accountNumber = null;
+        int level = 0;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = readString(parser, context, state);
+                case "name" -> name = readString(parser, context, state);
+                case "accountNumber" -> accountNumber = readString(parser, context, state);
+                case "level" -> level = _parseIntPrimitive(parser, context);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Owner(id, name, accountNumber, level);
+    }
+
+    private String readString(JsonParser parser, DeserializationContext context, ParseState state) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return state.strings.dedupe(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return _parseString(parser, context, NullsConstantProvider.nuller());
+    }
+
+    /**
+     * Batches bind a list of requests with the same context, so the counters and string table cover the whole body.
+     */
+    private ParseState state(DeserializationContext context) {
+        ParseState state = (ParseState) context.getAttribute(STATE_ATTRIBUTE);
+        if (state == null) {
+            state = new ParseState(new StringDeduplicator(limits.getDedupeTableSize()));
+            context.setAttribute(STATE_ATTRIBUTE, state);
+        }
+        return state;
+    }
+
+    private static final class ParseState {
+        private final StringDeduplicator strings;
+        private int requests;
+        private int resources;
+
+        private ParseState(StringDeduplicator strings) {
+            this.strings = strings;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.request-limits")
+public class ServiceRequestLimitProperties {
+    private DataSize maxBodySize = DataSize.ofMegabytes(16);
+    private int maxBatchSize = 1_000;
+    private int maxResources = 10_000;
+    private int maxOwnersPerResource = 1_000;
+    private int dedupeTableSize = 4_096;
+}
@@ -0,0 +1,36 @@
+package com.ceylanomer.serviceapi.service.rest.response;
+
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One line of a streamed lookup: either the service's resources or the error for its id.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ServiceLookupResponse {
+    private String id;
+    private List<Resource> resources;
+    private ErrorResponse error;
+
+    public static ServiceLookupResponse from(ServiceAggregate serviceAggregate) {
+        return ServiceLookupResponse.builder()
+                .id(serviceAggregate.getId())
+                .resources(serviceAggregate.getResources())
+                .build();
+    }
+
+    public static ServiceLookupResponse error(String id, ErrorResponse error) {
+        return ServiceLookupResponse.builder()
+                .id(id)
+                .error(error)
+                .build();
+    }
+}
@@ -5,11 +5,14 @@ import com.ceylanomer.serviceapi.service.persistence.Resource;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ServiceResponse {
     private String id;
     private List<Resource> resources;
@@ -0,0 +1,201 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.ceylanomer.serviceapi.common.offheap.OffHeapRecordStore;
+import com.ceylanomer.serviceapi.common.serialization.BinaryReader;
+import com.ceylanomer.serviceapi.common.serialization.BinaryWriter;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ResourceCodec;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.ServiceDocument;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory view of every active service, kept off-heap so that a large view neither grows the heap nor adds GC
+ * work. Values hold only the resources in the compact binary layout; the id is the key and the status is implied.
+ * The view is bulk loaded from the write model once the application is ready and then follows the service events,
+ * so lookups that miss (deleted, unknown or not yet loaded services) fall back to Mongo.
+ */
+@Slf4j
+@Service
+public class ActiveServiceView extends DomainEventHandler<ServiceDomainEvent> {
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int RESOURCE = 1;
+
+    private final MongoTemplate mongoTemplate;
+    private final ServiceRepository serviceRepository;
+    private final OffHeapRecordStore store;
+    private final Counter hits;
+    private final Counter misses;
+    private final ThreadLocal<BinaryWriter> writers = ThreadLocal.withInitial(BinaryWriter::new);
+    private final ThreadLocal<BinaryReader> readers = ThreadLocal.withInitial(BinaryReader::new);
+    private volatile Set<String> touchedDuringLoad;
+
+    public ActiveServiceView(MaterializedViewProperties properties, MongoTemplate mongoTemplate,
+                             ServiceRepository serviceRepository, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.serviceRepository = serviceRepository;
+        this.store = properties.isEnabled()
+                ? new OffHeapRecordStore(properties.getSlabSize().toBytes(), properties.getCompactionThreshold())
+                : null;
+        this.hits = Counter.builder("materialized.view.lookups").tag("view", "active_services").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("materialized.view.lookups").tag("view", "active_services").tag("result", "miss").register(meterRegistry);
+        if (store != null) {
+            Gauge.builder("materialized.view.entries", store, OffHeapRecordStore::size).tag("view", "active_services").register(meterRegistry);
+            Gauge.builder("materialized.view.bytes", store, OffHeapRecordStore::liveBytes)
+                    .tag("view", "active_services").tag("type", "live").baseUnit("bytes").register(meterRegistry);
+            Gauge.builder("materialized.view.bytes", store, OffHeapRecordStore::allocatedBytes)
+                    .tag("view", "active_services").tag("type", "allocated").baseUnit("bytes").register(meterRegistry);
+            FunctionCounter.builder("materialized.view.compactions", store, OffHeapRecordStore::compactions)
+                    .tag("view", "active_services").register(meterRegistry);
+        }
+    }
+
+    public Optional<ServiceAggregate> find(String id) {
+        if (store == null || id == null) {
+            return Optional.empty();
+        }
+        ServiceAggregate service = store.get(id, this::decode);
+        (service != null ? hits : misses).increment();
+        return Optional.ofNullable(service);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoad() {
+        if (store != null) {
+            Thread.ofPlatform().daemon().name("active-service-view-load").start(this::load);
+        }
+    }
+
+    /**
+     * Streams the active services from the write model. Events handled while the load runs win over the streamed
+     * documents, which may already be stale by the time they are read.
+     */
+    public void load() {
+        Set<String> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringLoad = touched;
+        long loaded = 0;
+        try (Stream<ServiceDocument> documents = mongoTemplate.stream(Query.query(Criteria.where("status").is(Status.ACTIVE)), ServiceDocument.class)) {
+            var iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                ServiceDocument document = iterator.next();
+                synchronized (this) {
+                    if (!touched.contains(document.getId())) {
+                        write(document.getId(), document.getResources());
+                        loaded++;
+                    }
+                }
+            }
+            log.info("Loaded {} active services into the materialized view", loaded);
+        } catch (RuntimeException exception) {
+            log.warn("Could not load the active service view, lookups fall back to Mongo until services change", exception);
+        } finally {
+            touchedDuringLoad = null;
+        }
+    }
+
+    @Override
+    public boolean supportsReplay() {
+        return true;
+    }
+
+    @Override
+    protected synchronized void handle(ServiceDomainEvent event) {
+        if (store == null) {
+            return;
+        }
+        Set<String> touched = touchedDuringLoad;
+        if (touched != null) {
+            touched.add(event.getId());
+        }
+        switch (event) {
+            case ServiceCreatedDomainEvent created -> write(created.getId(), created.getResources());
+            case ServiceUpdatedDomainEvent updated -> {
+                ServiceAggregate current = store.get(updated.getId(), this::decode);
+                if (current != null) {
+                    write(updated.getId(), updated.applyTo(current.getResources()));
+                } else {
+                    reloadFromWriteModel(updated.getId());
+                }
+            }
+            case ServiceDeletedDomainEvent deleted -> store.remove(deleted.getId());
+            default -> log.debug("Ignoring service event {}", event.getType());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private void reloadFromWriteModel(String id) {
+        try {
+            ServiceAggregate service = serviceRepository.retrieveServiceById(id);
+            if (service.getStatus() == Status.ACTIVE) {
+                write(id, service.getResources());
+            }
+        } catch (ServiceApiDataNotFoundException exception) {
+            log.warn("Dropping update for unknown service {}", id);
+        }
+    }
+
+    private void write(String id, List<Resource> resources) {
+        BinaryWriter writer = writers.get().begin(FORMAT_VERSION);
+        if (resources != null) {
+            for (int i = 0, size = resources.size(); i < size; i++) {
+                ResourceCodec.writeResource(writer, RESOURCE, resources.get(i));
+            }
+        }
+        writer.finish();
+        store.put(id, writer.buffer(), 0, writer.size());
+    }
+
+    private ServiceAggregate decode(String id, byte[] buffer, int offset, int length) {
+        BinaryReader reader = readers.get().reset(buffer, offset, length);
+        if (reader.formatVersion() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported active service view format version " + reader.formatVersion());
+        }
+        List<Resource> resources = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            if (BinaryReader.fieldNumber(tag) == RESOURCE) {
+                resources.add(ResourceCodec.readResource(reader));
+            } else {
+                reader.skip(BinaryReader.wireType(tag));
+            }
+        }
+        var service = new ServiceAggregate();
+        service.setId(id);
+        service.setResources(resources);
+        service.setStatus(Status.ACTIVE);
+        return service;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.materialized-view")
+public class MaterializedViewProperties {
+    private boolean enabled = true;
+    private DataSize slabSize = DataSize.ofMegabytes(8);
+    private double compactionThreshold = 0.5;
+}
@@ -0,0 +1,74 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "service_views")
+public class ServiceViewDocument {
+    @Id
+    private String id;
+    @Field(value = "status")
+    private Status status;
+    @Field(value = "resources")
+    private List<Resource> resources;
+    @Field(value = "resourceCount")
+    private int resourceCount;
+    @Field(value = "ownerCount")
+    private int ownerCount;
+    @Field(value = "ownerIds")
+    private Set<String> ownerIds;
+    @Field(value = "version")
+    private Long version;
+    @Field(value = "lastMessageId")
+    private String lastMessageId;
+    @Field(value = "lastModifiedDate")
+    private Date lastModifiedDate;
+
+    public static ServiceViewDocument of(String id, Status status, List<Resource> resources, long version, String messageId) {
+        var view = ServiceViewDocument.builder().id(id).status(status).build();
+        view.apply(resources, version, messageId);
+        return view;
+    }
+
+    public void apply(List<Resource> resources, long version, String messageId) {
+        Set<String> owners = new LinkedHashSet<>();
+        if (resources != null) {
+            for (Resource resource : resources) {
+                resource.owners().stream().map(Owner::id).forEach(owners::add);
+            }
+        }
+        this.resources = resources;
+        this.resourceCount = resources == null ? 0 : resources.size();
+        this.ownerCount = owners.size();
+        this.ownerIds = owners;
+        this.version = version;
+        this.lastMessageId = messageId;
+        this.lastModifiedDate = new Date();
+    }
+
+    public ServiceAggregate toAggregate() {
+        var service = new ServiceAggregate();
+        service.setId(this.id);
+        service.setResources(this.resources);
+        service.setStatus(this.status);
+        return service;
+    }
+}
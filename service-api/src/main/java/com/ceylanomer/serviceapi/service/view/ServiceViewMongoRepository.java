@@ -0,0 +1,6 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ServiceViewMongoRepository extends MongoRepository<ServiceViewDocument, String> {
+}
@@ -0,0 +1,132 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps {@code service_views} in step with the service events. Each view carries the write-model version it
+ * reflects and is only ever replaced by a later one, so a replay racing live events cannot move it backwards.
+ */
+@Slf4j
+@Service
+public class ServiceViewProjection extends DomainEventHandler<ServiceDomainEvent> {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ServiceViewMongoRepository serviceViewMongoRepository;
+    private final ServiceRepository serviceRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Timer lagTimer;
+
+    public ServiceViewProjection(ServiceViewMongoRepository serviceViewMongoRepository, ServiceRepository serviceRepository,
+                                 MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.serviceViewMongoRepository = serviceViewMongoRepository;
+        this.serviceRepository = serviceRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.lagTimer = Timer.builder("read.model.lag").tag("view", "service_views").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(ServiceViewDocument.class).createIndex(new Index().on("ownerIds", Sort.Direction.ASC));
+        } catch (RuntimeException exception) {
+            log.warn("Could not create indexes for service views", exception);
+        }
+    }
+
+    @Override
+    public boolean supportsReplay() {
+        return true;
+    }
+
+    @Override
+    protected void handle(ServiceDomainEvent event) {
+        switch (event) {
+            case ServiceCreatedDomainEvent created ->
+                    saveIfNewer(ServiceViewDocument.of(created.getId(), Status.ACTIVE, created.getResources(), created.version(), created.messageId()));
+            case ServiceUpdatedDomainEvent updated ->
+                    apply(updated, view -> view.apply(updated.applyTo(view.getResources()), updated.version(), updated.messageId()));
+            case ServiceDeletedDomainEvent deleted -> apply(deleted, view -> {
+                view.setStatus(Status.DELETED);
+                view.apply(view.getResources(), deleted.version(), deleted.messageId());
+            });
+            default -> log.debug("Ignoring service event {}", event.getType());
+        }
+        if (event.getHeader() != null && event.getHeader().getTimeStamp() != null) {
+            lagTimer.record(Math.max(0, System.currentTimeMillis() - event.getHeader().getTimeStamp().getTime()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Applies an event to the stored view if it is the next version. Older events are dropped. A view that is
+     * missing or skipped a version is reloaded from the write model, since updates only carry deltas.
+     */
+    private void apply(ServiceDomainEvent event, Consumer<ServiceViewDocument> change) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            var view = serviceViewMongoRepository.findById(event.getId()).orElse(null);
+            if (view == null) {
+                break;
+            }
+            Long stored = view.getVersion();
+            if (stored != null && stored >= event.version()) {
+                log.debug("Skipping {} version {} for service view {} at version {}", event.getType(), event.version(), event.getId(), stored);
+                return;
+            }
+            if (stored != null && stored != event.version() - 1) {
+                break;
+            }
+            change.accept(view);
+            var unchanged = Query.query(Criteria.where("_id").is(view.getId()).and("version").is(stored));
+            if (mongoTemplate.findAndReplace(unchanged, view) != null) {
+                return;
+            }
+        }
+        reload(event);
+    }
+
+    private void reload(ServiceDomainEvent event) {
+        try {
+            ServiceAggregate service = serviceRepository.retrieveServiceById(event.getId());
+            log.info("Service view {} was missing or behind, rebuilding it from the write model", event.getId());
+            saveIfNewer(ServiceViewDocument.of(service.getId(), service.getStatus(), service.getResources(), service.getVersion(), event.messageId()));
+        } catch (ServiceApiDataNotFoundException exception) {
+            log.warn("Dropping {} for unknown service {}", event.getType(), event.getId());
+        }
+    }
+
+    /**
+     * Writes the view unless the stored one is at the same or a later version. Views written before versioning
+     * have no version and are always replaced.
+     */
+    private void saveIfNewer(ServiceViewDocument view) {
+        var older = Query.query(Criteria.where("_id").is(view.getId()).and("version").not().gte(view.getVersion()));
+        try {
+            mongoTemplate.findAndReplace(older, view, FindAndReplaceOptions.options().upsert());
+        } catch (DuplicateKeyException exception) {
+            log.debug("Service view {} is already at version {} or later", view.getId(), view.getVersion());
+        }
+    }
+}
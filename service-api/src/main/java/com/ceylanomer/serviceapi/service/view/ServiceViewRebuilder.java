@@ -0,0 +1,38 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiBusinessException;
+import com.ceylanomer.serviceapi.common.replay.DomainEventReplayer;
+import com.ceylanomer.serviceapi.common.replay.ReplayState;
+import com.ceylanomer.serviceapi.common.replay.ReplayStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServiceViewRebuilder {
+    private static final String SOURCE = "services";
+    private static final String PROJECTION = "serviceViewProjection";
+
+    private final ServiceViewMongoRepository serviceViewMongoRepository;
+    private final DomainEventReplayer domainEventReplayer;
+    private ReplayStatus current;
+
+    /**
+     * Live events keep writing while the snapshot replays; views only move to later versions, so whichever
+     * of the two arrives second for a service is dropped if it is older.
+     */
+    public synchronized ReplayStatus rebuild() {
+        if (current != null && current.getState() == ReplayState.RUNNING) {
+            throw new ServiceApiBusinessException("replay.alreadyRunning", current.getReplayId());
+        }
+        String replayId = "service-views-" + System.currentTimeMillis();
+        log.info("Dropping service views and rebuilding them with replay {}", replayId);
+        serviceViewMongoRepository.deleteAll();
+        current = domainEventReplayer.start(replayId, SOURCE, List.of(PROJECTION));
+        return current;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ceylanomer.serviceapi.service.watch;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventType;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+
+import java.util.Set;
+
+/**
+ * Selects the service events a subscriber receives; an empty set matches everything.
+ */
+public record ServiceWatchFilter(Set<String> ids, Set<DomainEventType> types) {
+
+    public ServiceWatchFilter {
+        ids = ids != null ? Set.copyOf(ids) : Set.of();
+        types = types != null ? Set.copyOf(types) : Set.of();
+    }
+
+    public static ServiceWatchFilter forService(String id) {
+        return new ServiceWatchFilter(Set.of(id), null);
+    }
+
+    boolean matches(ServiceDomainEvent event) {
+        return (ids.isEmpty() || ids.contains(event.getId())) && (types.isEmpty() || types.contains(event.getType()));
+    }
+}
@@ -0,0 +1,155 @@
+package com.ceylanomer.serviceapi.service.watch;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fans service events out to Server-Sent Events subscribers. Each event gets an id of the form
+ * {@code <epoch>-<sequence>}; the most recent ones are retained so a client reconnecting with {@code Last-Event-ID}
+ * receives what it missed. When that is no longer possible (restart, or the gap fell out of retention) the client
+ * gets a single {@value #RESET} event and should re-read the services it cares about.
+ */
+@Slf4j
+@Service
+public class ServiceWatchHub extends DomainEventHandler<ServiceDomainEvent> {
+    static final String RESET = "reset";
+
+    private final ServiceWatchProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Object lock = new Object();
+    private final ArrayDeque<Notification> recent = new ArrayDeque<>();
+    private final Set<ServiceWatchSubscription> subscriptions = new HashSet<>();
+    private long sequence;
+
+    public ServiceWatchHub(ServiceWatchProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("service.watch.subscribers", this, ServiceWatchHub::subscriberCount).register(meterRegistry);
+    }
+
+    public SseEmitter watch(ServiceWatchFilter filter, @Nullable String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        ServiceWatchSubscription subscription;
+        synchronized (lock) {
+            if (subscriptions.size() >= properties.getMaxSubscribers()) {
+                meterRegistry.counter("service.watch.rejected").increment();
+                throw new ServiceApiOverloadedException("common.server.overloaded", properties.getReconnectDelay());
+            }
+            subscription = new ServiceWatchSubscription(emitter, filter, backlog(filter, lastEventId), properties, this::closed);
+            subscriptions.add(subscription);
+        }
+        subscription.start();
+        return emitter;
+    }
+
+    @Override
+    public void replay(ServiceDomainEvent event) {
+        // Watchers only follow live changes; replayed history would reach them as new events.
+    }
+
+    @Override
+    protected void handle(ServiceDomainEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize " + event.getType() + " for watchers", exception);
+        }
+        synchronized (lock) {
+            Notification notification = new Notification(++sequence, eventId(sequence), event.getType().name(), data, event);
+            recent.addLast(notification);
+            while (recent.size() > Math.max(0, properties.getRetention())) {
+                recent.removeFirst();
+            }
+            for (ServiceWatchSubscription subscription : List.copyOf(subscriptions)) {
+                if (subscription.filter().matches(event)) {
+                    subscription.offer(notification);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<ServiceWatchSubscription> open;
+        synchronized (lock) {
+            open = List.copyOf(subscriptions);
+        }
+        open.forEach(subscription -> subscription.disconnect(ServiceWatchSubscription.SHUTDOWN));
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.getTimeout().toMillis());
+    }
+
+    int subscriberCount() {
+        synchronized (lock) {
+            return subscriptions.size();
+        }
+    }
+
+    private List<Notification> backlog(ServiceWatchFilter filter, @Nullable String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long after = lastSequence(lastEventId);
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.getFirst().sequence();
+        if (after < 0 || after > sequence || after < oldest - 1) {
+            meterRegistry.counter("service.watch.resumes", "result", RESET).increment();
+            return List.of(new Notification(sequence, eventId(sequence), RESET, "{\"lastEventId\":\"" + eventId(sequence) + "\"}", null));
+        }
+        meterRegistry.counter("service.watch.resumes", "result", "replayed").increment();
+        List<Notification> missed = new ArrayList<>();
+        for (Notification notification : recent) {
+            if (notification.sequence() > after && filter.matches(notification.event())) {
+                missed.add(notification);
+            }
+        }
+        return missed;
+    }
+
+    private long lastSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void closed(ServiceWatchSubscription subscription, String reason) {
+        synchronized (lock) {
+            subscriptions.remove(subscription);
+        }
+        meterRegistry.counter("service.watch.disconnects", "reason", reason).increment();
+    }
+
+    record Notification(long sequence, String eventId, String name, String data, @Nullable ServiceDomainEvent event) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.ceylanomer.serviceapi.service.watch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "serviceapi.watch")
+public class ServiceWatchProperties {
+    private int maxSubscribers = 1_000;
+    /**
+     * Notifications queued per subscriber. A subscriber that falls further behind is disconnected and resumes with
+     * {@code Last-Event-ID}.
+     */
+    private int bufferSize = 256;
+    /**
+     * Recent notifications kept in memory for resuming subscribers.
+     */
+    private int retention = 10_000;
+    private Duration heartbeat = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+}
@@ -0,0 +1,110 @@
+package com.ceylanomer.serviceapi.service.watch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * One open watch stream. The hub only ever offers to the bounded queue, so a slow client cannot hold up event
+ * delivery; writes happen on the subscription's own virtual thread, which also sends a heartbeat when idle.
+ */
+@Slf4j
+class ServiceWatchSubscription {
+    static final String OVERFLOW = "overflow";
+    static final String CLIENT = "client";
+    static final String TIMEOUT = "timeout";
+    static final String SHUTDOWN = "shutdown";
+
+    private final SseEmitter emitter;
+    private final ServiceWatchFilter filter;
+    private final BlockingQueue<ServiceWatchHub.Notification> queue;
+    private final List<ServiceWatchHub.Notification> backlog;
+    private final Duration heartbeat;
+    private final Duration reconnectDelay;
+    private final BiConsumer<ServiceWatchSubscription, String> onClose;
+    private volatile boolean open = true;
+    private Thread sender;
+
+    ServiceWatchSubscription(SseEmitter emitter, ServiceWatchFilter filter, List<ServiceWatchHub.Notification> backlog,
+                             ServiceWatchProperties properties, BiConsumer<ServiceWatchSubscription, String> onClose) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.backlog = backlog;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferSize()));
+        this.heartbeat = properties.getHeartbeat();
+        this.reconnectDelay = properties.getReconnectDelay();
+        this.onClose = onClose;
+        emitter.onCompletion(() -> close(CLIENT));
+        emitter.onError(error -> close(CLIENT));
+        emitter.onTimeout(() -> disconnect(TIMEOUT));
+    }
+
+    ServiceWatchFilter filter() {
+        return filter;
+    }
+
+    void start() {
+        sender = Thread.ofVirtual().name("service-watch-", 0).start(this::run);
+    }
+
+    /**
+     * Queues a notification without blocking; a full buffer closes the stream so the client reconnects and resumes.
+     */
+    void offer(ServiceWatchHub.Notification notification) {
+        if (open && !queue.offer(notification)) {
+            disconnect(OVERFLOW);
+        }
+    }
+
+    void disconnect(String reason) {
+        close(reason);
+        emitter.complete();
+    }
+
+    private void close(String reason) {
+        if (!open) {
+            return;
+        }
+        open = false;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+        onClose.accept(this, reason);
+    }
+
+    private void run() {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()).comment("connected"));
+            for (ServiceWatchHub.Notification notification : backlog) {
+                send(notification);
+            }
+            while (open) {
+                ServiceWatchHub.Notification notification = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (!open) {
+                    return;
+                }
+                if (notification == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    send(notification);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException exception) {
+            log.debug("Watch stream closed by the client: {}", exception.getMessage());
+            close(CLIENT);
+        }
+    }
+
+    private void send(ServiceWatchHub.Notification notification) throws IOException {
+        emitter.send(SseEmitter.event().id(notification.eventId()).name(notification.name()).data(notification.data()));
+    }
+}
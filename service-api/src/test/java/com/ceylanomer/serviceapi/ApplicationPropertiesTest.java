@@ -0,0 +1,32 @@
+package com.ceylanomer.serviceapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("application.properties Tests")
+class ApplicationPropertiesTest {
+
+    @Test
+    @DisplayName("Should keep service settings out of the docker-only document")
+    void load_ShouldApplyServiceSettingsToEveryProfile() throws IOException {
+        // Act
+        List<PropertySource<?>> documents = new PropertiesPropertySourceLoader()
+                .load("application.properties", new ClassPathResource("application.properties"));
+
+        // Assert
+        PropertySource<?> common = documents.getFirst();
+        assertThat(common.getProperty("spring.config.activate.on-profile")).isNull();
+        assertThat(common.getProperty("serviceapi.event-handlers.handlers.queryCacheInvalidationHandler.async")).isEqualTo("false");
+        assertThat(common.getProperty("serviceapi.batch-lookup.max-ids")).isEqualTo("100000");
+        assertThat(documents).last()
+                .satisfies(docker -> assertThat(docker.getProperty("spring.config.activate.on-profile")).isEqualTo("docker"));
+    }
+}
@@ -0,0 +1,211 @@
+package com.ceylanomer.serviceapi.common.aggregate;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DomainEventPublisher Unit Tests")
+class DomainEventPublisherTest {
+
+    private final DeadLetterMongoRepository deadLetterMongoRepository = mock(DeadLetterMongoRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DomainEventHandlerProperties properties = new DomainEventHandlerProperties();
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private DomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should not block the publisher on a slow handler")
+    void publish_WithSlowHandler_ShouldReturnImmediately() throws InterruptedException {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var handled = new AtomicInteger();
+        register("slowHandler", new TestHandler(event -> {
+            awaitQuietly(release);
+            handled.incrementAndGet();
+        }));
+
+        // Act
+        long start = System.nanoTime();
+        publisher.publish(createEvent());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Assert
+        assertThat(elapsedMillis).isLessThan(500);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(handled).hasValue(1));
+    }
+
+    @Test
+    @DisplayName("Should retry and dead-letter poisoned events")
+    void publish_WithFailingHandler_ShouldDeadLetterAfterMaxAttempts() {
+        // Arrange
+        var attempts = new AtomicInteger();
+        var settings = new DomainEventHandlerProperties.Settings();
+        settings.setInitialBackoff(Duration.ofMillis(1));
+        settings.setFailureThreshold(100);
+        properties.getHandlers().put("failingHandler", settings);
+        register("failingHandler", new TestHandler(event -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("poisoned");
+        }));
+
+        // Act
+        publisher.publish(createEvent());
+
+        // Assert
+        verify(deadLetterMongoRepository, timeout(5000)).save(argThat(document ->
+                document.getHandler().equals("failingHandler") && document.getAttempts() == 3));
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("domain.event.handler.failures", "handler", "failingHandler").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should retry a sync handler with backoff before dead-lettering")
+    void publish_WithFailingSyncHandler_ShouldRetryBeforeDeadLettering() {
+        // Arrange
+        var attempts = new AtomicInteger();
+        var settings = new DomainEventHandlerProperties.Settings();
+        settings.setAsync(false);
+        settings.setInitialBackoff(Duration.ofMillis(1));
+        properties.getHandlers().put("failingHandler", settings);
+        register("failingHandler", new TestHandler(event -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("transient");
+            }
+        }));
+
+        // Act
+        publisher.publish(createEvent());
+
+        // Assert
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.counter("domain.event.handler.failures", "handler", "failingHandler").count()).isEqualTo(2);
+        verify(deadLetterMongoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the async worker alive when a handler throws an Error")
+    void publish_WithHandlerThrowingError_ShouldDeadLetterAndKeepDelivering() {
+        // Arrange
+        var handled = new AtomicInteger();
+        register("erroringHandler", new TestHandler(event -> {
+            if (handled.incrementAndGet() == 1) {
+                throw new AssertionError("broken");
+            }
+        }));
+
+        // Act
+        publisher.publish(createEvent());
+        publisher.publish(createEvent());
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(handled).hasValue(2));
+        verify(deadLetterMongoRepository, timeout(5000)).save(argThat(document -> document.getReason().contains("broken")));
+        assertThat(meterRegistry.counter("domain.event.handler.worker.errors", "handler", "erroringHandler").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter events that overflow the handler queue")
+    void publish_WithFullQueue_ShouldDeadLetterOverflow() {
+        // Arrange
+        var release = new CountDownLatch(1);
+        var settings = new DomainEventHandlerProperties.Settings();
+        settings.setQueueCapacity(1);
+        properties.getHandlers().put("blockedHandler", settings);
+        register("blockedHandler", new TestHandler(event -> awaitQuietly(release)));
+
+        // Act
+        List.of(createEvent(), createEvent(), createEvent(), createEvent()).forEach(publisher::publish);
+        release.countDown();
+
+        // Assert
+        verify(deadLetterMongoRepository, timeout(5000).atLeastOnce()).save(any());
+        assertThat(meterRegistry.counter("domain.event.handler.rejected", "handler", "blockedHandler").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not wait on a slow dead-letter store and count what it cannot queue")
+    void publish_WithFullQueueAndSlowDeadLetterStore_ShouldDropInsteadOfBlocking() {
+        // Arrange
+        var release = new CountDownLatch(1);
+        when(deadLetterMongoRepository.save(any())).thenAnswer(invocation -> {
+            awaitQuietly(release);
+            return invocation.getArgument(0);
+        });
+        var settings = new DomainEventHandlerProperties.Settings();
+        settings.setQueueCapacity(1);
+        properties.getHandlers().put("blockedHandler", settings);
+        properties.setDeadLetterQueueCapacity(1);
+        register("blockedHandler", new TestHandler(event -> awaitQuietly(release)));
+
+        // Act
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(createEvent());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Assert
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(meterRegistry.counter("domain.event.handler.dead.letter.dropped", "handler", "blockedHandler").count()).isGreaterThanOrEqualTo(1);
+        verify(deadLetterMongoRepository, timeout(5000).atLeastOnce()).save(any());
+    }
+
+    private void register(String name, TestHandler handler) {
+        context.registerBean(name, TestHandler.class, () -> handler);
+        context.refresh();
+        publisher = new DomainEventPublisher(context, properties, deadLetterMongoRepository, meterRegistry);
+    }
+
+    private static ServiceDomainEvent createEvent() {
+        return (ServiceDomainEvent) new ServiceAggregate("service-123", List.of()).getDomainEvents().get(0);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class TestHandler extends DomainEventHandler<ServiceDomainEvent> {
+        private final Consumer<ServiceDomainEvent> action;
+
+        TestHandler(Consumer<ServiceDomainEvent> action) {
+            this.action = action;
+        }
+
+        @Override
+        protected void handle(ServiceDomainEvent event) {
+            action.accept(event);
+        }
+    }
+}
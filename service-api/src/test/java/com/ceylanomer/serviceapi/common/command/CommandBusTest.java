@@ -0,0 +1,398 @@
+package com.ceylanomer.serviceapi.common.command;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventPublisher;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimitProperties;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CommandBus Unit Tests")
+class CommandBusTest {
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch proceed = new CountDownLatch(1);
+    private GenericApplicationContext context;
+    private CommandMailboxes commandMailboxes;
+    private CommandBus commandBus;
+
+    @BeforeEach
+    void setUp() {
+        var handler = new PingCommandHandler(calls);
+        handler.setDomainEventPublisher(mock(DomainEventPublisher.class));
+        var echoHandler = new EchoCommandHandler(calls);
+        echoHandler.setDomainEventPublisher(mock(DomainEventPublisher.class));
+        var slowHandler = new SlowCommandHandler(calls);
+        slowHandler.setDomainEventPublisher(mock(DomainEventPublisher.class));
+        var renameHandler = new RenameCommandHandler(calls, release, proceed);
+        renameHandler.setDomainEventPublisher(mock(DomainEventPublisher.class));
+        context = new GenericApplicationContext();
+        context.getDefaultListableBeanFactory().setDependencyComparator(AnnotationAwareOrderComparator.INSTANCE);
+        context.registerBean(PingCommandHandler.class, () -> handler);
+        context.registerBean(SlowCommandHandler.class, () -> slowHandler);
+        context.registerBean(EchoCommandHandler.class, () -> echoHandler);
+        context.registerBean(RenameCommandHandler.class, () -> renameHandler);
+        context.registerBean(SecondInterceptor.class, () -> new SecondInterceptor(calls));
+        context.registerBean(FirstInterceptor.class, () -> new FirstInterceptor(calls));
+        context.registerBean(CommandMetricsInterceptor.class, () -> new CommandMetricsInterceptor(meterRegistry));
+        context.refresh();
+        var commandBusProperties = new CommandBusProperties();
+        commandBusProperties.setShards(4);
+        commandMailboxes = new CommandMailboxes(commandBusProperties, meterRegistry);
+        commandBus = commandBus(commandMailboxes);
+    }
+
+    private CommandBus commandBus(CommandMailboxes mailboxes) {
+        var bus = new CommandBus(context, context.getBeanProvider(CommandInterceptor.class), Executors.newVirtualThreadPerTaskExecutor(), mailboxes,
+                new ConcurrencyLimiters(new ConcurrencyLimitProperties(), meterRegistry));
+        bus.registerHandlers();
+        return bus;
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        proceed.countDown();
+        commandMailboxes.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run interceptors in order around the handler")
+    void executeWithResponse_WithInterceptors_ShouldApplyThemInOrder() {
+        // Act
+        ServiceAggregate result = commandBus.executeWithResponse(new PingCommand(false));
+
+        // Assert
+        assertThat(result.getId()).isEqualTo("pong");
+        assertThat(calls).containsExactly("first:PingCommand", "second:PingCommand", "handler");
+        assertThat(meterRegistry.timer("command.bus.duration", "command", "PingCommand").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count handler errors per command type")
+    void execute_WithFailingHandler_ShouldRecordError() {
+        // Act & Assert
+        assertThatThrownBy(() -> commandBus.execute(new PingCommand(true)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.counter("command.bus.errors", "command", "PingCommand", "exception", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should complete the future off the caller thread")
+    void executeAsync_WithHandler_ShouldCompleteFuture() {
+        // Act
+        CompletableFuture<ServiceAggregate> future = commandBus.executeAsync(new PingCommand(false));
+
+        // Assert
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5))
+                .extracting(ServiceAggregate::getId)
+                .isEqualTo("pong");
+        assertThat(calls).containsExactly("first:PingCommand", "second:PingCommand", "handler");
+    }
+
+    @Test
+    @DisplayName("Should fail the future when the handler fails")
+    void executeAsync_WithFailingHandler_ShouldCompleteExceptionally() {
+        // Act
+        CompletableFuture<ServiceAggregate> future = commandBus.executeAsync(new PingCommand(true));
+
+        // Assert
+        assertThat(future).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should time out and interrupt slow commands")
+    void executeAsync_WithExpiredDeadline_ShouldTimeOutAndInterrupt() {
+        // Act
+        CompletableFuture<ServiceAggregate> future = commandBus.executeAsync(new SlowCommand(), Duration.ofMillis(50));
+
+        // Assert
+        assertThat(future).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(calls).contains("interrupted"));
+    }
+
+    @Test
+    @DisplayName("Should hold the write permit of a timed-out command until the command finishes")
+    void executeAsync_WithExpiredDeadline_ShouldReleasePermitWhenCommandFinishes() {
+        // Act
+        CompletableFuture<ServiceAggregate> future = commandBus.executeAsync(new RenameCommand("x", "1"), Duration.ofMillis(50));
+
+        // Assert
+        assertThat(future).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        assertThat(meterRegistry.get("concurrency.limit.in.flight").tag("limiter", "write").gauge().value()).isEqualTo(1);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(meterRegistry.get("concurrency.limit.in.flight").tag("limiter", "write").gauge().value()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should batch supported command types and keep input order")
+    void executeAll_WithMixedCommands_ShouldBatchAndPreserveOrder() {
+        // Act
+        List<ServiceAggregate> results = commandBus.executeAll(List.of(
+                new EchoCommand("a"), new PingCommand(false), new EchoCommand("b"), new EchoCommand("c")));
+
+        // Assert
+        assertThat(results).extracting(ServiceAggregate::getId).containsExactly("a", "pong", "b", "c");
+        assertThat(calls).containsExactly("first:EchoCommand", "second:EchoCommand", "batch:3",
+                "first:PingCommand", "second:PingCommand", "handler");
+        assertThat(meterRegistry.timer("command.bus.batch.duration", "command", "EchoCommand").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serialize commands per aggregate, coalesce queued ones and keep other aggregates moving")
+    void executeAsync_WithAggregateCommands_ShouldSerializePerAggregateAndCoalesce() {
+        // Arrange
+        String otherId = commandMailboxes.shardOf("x") == commandMailboxes.shardOf("y") ? "z" : "y";
+        CompletableFuture<ServiceAggregate> blocked = commandBus.executeAsync(new RenameCommand("x", "1"));
+        await().untilAsserted(() -> assertThat(calls).contains("rename:x:1"));
+        CompletableFuture<ServiceAggregate> second = commandBus.executeAsync(new RenameCommand("x", "2"));
+        CompletableFuture<ServiceAggregate> third = commandBus.executeAsync(new RenameCommand("x", "3"));
+
+        // Act
+        ServiceAggregate other = commandBus.executeWithResponse(new RenameCommand(otherId, "1"));
+        release.countDown();
+
+        // Assert
+        assertThat(other.getId()).isEqualTo(otherId + ":1");
+        assertThat(blocked).succeedsWithin(Duration.ofSeconds(5)).extracting(ServiceAggregate::getId).isEqualTo("x:1");
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5)).extracting(ServiceAggregate::getId).isEqualTo("x:3");
+        assertThat(third).succeedsWithin(Duration.ofSeconds(5)).extracting(ServiceAggregate::getId).isEqualTo("x:3");
+        assertThat(calls).filteredOn(call -> call.startsWith("rename:"))
+                .containsExactly("rename:x:1", "rename:" + otherId + ":1", "rename:x:3");
+        assertThat(meterRegistry.counter("command.mailbox.coalesced", "shard", String.valueOf(commandMailboxes.shardOf("x"))).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run a superseded command itself when the command replacing it times out in the queue")
+    void executeAsync_WithLaterCommandTimedOutInQueue_ShouldRunSupersededCommand() {
+        // Arrange
+        String sameShardId = "x0";
+        for (int i = 1; commandMailboxes.shardOf(sameShardId) != commandMailboxes.shardOf("x"); i++) {
+            sameShardId = "x" + i;
+        }
+        CompletableFuture<ServiceAggregate> blocked = commandBus.executeAsync(new RenameCommand("x", "1"));
+        await().untilAsserted(() -> assertThat(calls).contains("rename:x:1"));
+        CompletableFuture<ServiceAggregate> second = commandBus.executeAsync(new RenameCommand("x", "2"));
+        commandBus.executeAsync(new RenameCommand(sameShardId, "wait"));
+        CompletableFuture<ServiceAggregate> third = commandBus.executeAsync(new RenameCommand("x", "3"), Duration.ofMillis(500));
+        release.countDown();
+        String waiting = "rename:" + sameShardId + ":wait";
+        await().untilAsserted(() -> assertThat(calls).contains(waiting));
+
+        // Act
+        assertThat(third).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        proceed.countDown();
+
+        // Assert
+        assertThat(blocked).succeedsWithin(Duration.ofSeconds(5)).extracting(ServiceAggregate::getId).isEqualTo("x:1");
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5)).extracting(ServiceAggregate::getId).isEqualTo("x:2");
+        assertThat(calls).filteredOn(call -> call.startsWith("rename:"))
+                .containsExactly("rename:x:1", waiting, "rename:x:2");
+        assertThat(meterRegistry.counter("command.mailbox.coalesced", "shard", String.valueOf(commandMailboxes.shardOf("x"))).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shed commands for a full shard as overloaded with a retry hint")
+    void executeAsync_WithFullShard_ShouldFailAsOverloaded() {
+        // Arrange
+        var commandBusProperties = new CommandBusProperties();
+        commandBusProperties.setShards(1);
+        commandBusProperties.setShardQueueCapacity(1);
+        commandBusProperties.setRetryAfter(Duration.ofSeconds(3));
+        var fullMailboxes = new CommandMailboxes(commandBusProperties, new SimpleMeterRegistry());
+        var fullBus = commandBus(fullMailboxes);
+        try {
+            CompletableFuture<ServiceAggregate> blocked = fullBus.executeAsync(new RenameCommand("x", "1"));
+            await().untilAsserted(() -> assertThat(calls).contains("rename:x:1"));
+            CompletableFuture<ServiceAggregate> queued = fullBus.executeAsync(new RenameCommand("x", "2"));
+
+            // Act
+            CompletableFuture<ServiceAggregate> rejected = fullBus.executeAsync(new RenameCommand("x", "3"));
+
+            // Assert
+            assertThat(rejected).failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(ExecutionException.class)
+                    .havingCause()
+                    .isInstanceOfSatisfying(ServiceApiOverloadedException.class, overloaded -> {
+                        assertThat(overloaded.getKey()).isEqualTo("common.server.overloaded");
+                        assertThat(overloaded.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+                    });
+            assertThatThrownBy(() -> fullBus.execute(new RenameCommand("x", "4")))
+                    .isInstanceOf(ServiceApiOverloadedException.class);
+            release.countDown();
+            assertThat(blocked).succeedsWithin(Duration.ofSeconds(5));
+            assertThat(queued).succeedsWithin(Duration.ofSeconds(5));
+        } finally {
+            fullMailboxes.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject commands without a handler")
+    void execute_WithUnknownCommand_ShouldThrowException() {
+        assertThatThrownBy(() -> commandBus.execute(new Command() {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    record PingCommand(boolean fail) implements Command {
+    }
+
+    static class PingCommandHandler extends CommandHandler<PingCommand, ServiceAggregate> {
+        private final List<String> calls;
+
+        PingCommandHandler(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        protected ServiceAggregate handle(PingCommand command) {
+            calls.add("handler");
+            if (command.fail()) {
+                throw new IllegalStateException("boom");
+            }
+            var service = new ServiceAggregate();
+            service.setId("pong");
+            return service;
+        }
+    }
+
+    record EchoCommand(String id) implements Command {
+    }
+
+    static class EchoCommandHandler extends CommandHandler<EchoCommand, ServiceAggregate> {
+        private final List<String> calls;
+
+        EchoCommandHandler(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        protected ServiceAggregate handle(EchoCommand command) {
+            calls.add("single:" + command.id());
+            return new ServiceAggregate(command.id(), List.of());
+        }
+
+        @Override
+        protected List<ServiceAggregate> handleBatch(List<EchoCommand> commands) {
+            calls.add("batch:" + commands.size());
+            return commands.stream().map(command -> new ServiceAggregate(command.id(), List.of())).toList();
+        }
+    }
+
+    record RenameCommand(String id, String name) implements AggregateCommand {
+        @Override
+        public String aggregateId() {
+            return id;
+        }
+
+        @Override
+        public boolean coalescesWith(AggregateCommand next) {
+            return next instanceof RenameCommand;
+        }
+    }
+
+    static class RenameCommandHandler extends CommandHandler<RenameCommand, ServiceAggregate> {
+        private final List<String> calls;
+        private final CountDownLatch release;
+        private final CountDownLatch proceed;
+
+        RenameCommandHandler(List<String> calls, CountDownLatch release, CountDownLatch proceed) {
+            this.calls = calls;
+            this.release = release;
+            this.proceed = proceed;
+        }
+
+        @Override
+        protected ServiceAggregate handle(RenameCommand command) {
+            calls.add("rename:" + command.id() + ":" + command.name());
+            try {
+                if (command.id().equals("x")) {
+                    release.await(5, TimeUnit.SECONDS);
+                } else if (command.name().equals("wait")) {
+                    proceed.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return new ServiceAggregate(command.id() + ":" + command.name(), List.of());
+        }
+    }
+
+    record SlowCommand() implements Command {
+    }
+
+    static class SlowCommandHandler extends CommandHandler<SlowCommand, ServiceAggregate> {
+        private final List<String> calls;
+
+        SlowCommandHandler(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        protected ServiceAggregate handle(SlowCommand command) {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException exception) {
+                calls.add("interrupted");
+                Thread.currentThread().interrupt();
+            }
+            return new ServiceAggregate();
+        }
+    }
+
+    @Order(1)
+    record FirstInterceptor(List<String> calls) implements CommandInterceptor {
+        @Override
+        public CommandInvoker intercept(Class<? extends Command> commandType, CommandInvoker next) {
+            return command -> {
+                calls.add("first:" + commandType.getSimpleName());
+                return next.invoke(command);
+            };
+        }
+    }
+
+    @Order(2)
+    record SecondInterceptor(List<String> calls) implements CommandInterceptor {
+        @Override
+        public CommandInvoker intercept(Class<? extends Command> commandType, CommandInvoker next) {
+            return command -> {
+                calls.add("second:" + commandType.getSimpleName());
+                return next.invoke(command);
+            };
+        }
+    }
+}
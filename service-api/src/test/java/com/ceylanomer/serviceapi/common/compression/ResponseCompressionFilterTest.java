@@ -0,0 +1,151 @@
+package com.ceylanomer.serviceapi.common.compression;
+
+import com.github.luben.zstd.Zstd;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCompressionFilter Unit Tests")
+class ResponseCompressionFilterTest {
+
+    private static final String BODY = "{\"data\":{\"resources\":[" + "{\"id\":\"resource\",\"owners\":[]},".repeat(200) + "{}]}}";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CompressionProperties properties = new CompressionProperties();
+    private final CompressedResponseCache cache = new CompressedResponseCache(properties, meterRegistry);
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(properties, cache, meterRegistry);
+
+    @Test
+    @DisplayName("Should gzip large JSON bodies when the client only accepts gzip")
+    void doFilter_WithGzipAccepted_ShouldCompressBody() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("GET", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, writing(BODY));
+
+        // Assert
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length).isLessThan(BODY.length());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+        assertThat(meterRegistry.get("http.response.compression.ratio").tag("encoding", "gzip").summary().mean()).isLessThan(0.2);
+    }
+
+    @Test
+    @DisplayName("Should pass small bodies through uncompressed")
+    void doFilter_WithBodyBelowThreshold_ShouldNotCompress() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("GET", "zstd, gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, writing("{\"data\":{}}"));
+
+        // Assert
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"data\":{}}");
+    }
+
+    @Test
+    @DisplayName("Should prefer zstd and reuse the cached compressed bytes for repeated reads")
+    void doFilter_WithRepeatedGet_ShouldServeCachedVariant() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("GET", "gzip, zstd"), first, writing(BODY));
+        filter.doFilter(request("GET", "gzip, zstd"), second, writing(BODY));
+
+        // Assert
+        assertThat(second.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(new String(Zstd.decompress(second.getContentAsByteArray(), BODY.length()), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(meterRegistry.get("http.response.compression.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.response.compression.time").tag("encoding", "zstd").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write NDJSON straight through even when the client did not ask for a stream")
+    void doFilter_WithNdjsonResponse_ShouldStreamUncompressed() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("POST", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[][] seenBeforeEnd = new byte[1][];
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            seenBeforeEnd[0] = response.getContentAsByteArray();
+        });
+
+        // Assert
+        assertThat(seenBeforeEnd[0]).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Should pass output through once the request has gone async")
+    void doFilter_WithAsyncStartedRequest_ShouldNotBuffer() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("GET", "gzip");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Assert
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Should honour quality values and wildcards in Accept-Encoding")
+    void negotiate_WithQualityValues_ShouldPickBestAcceptedEncoding() {
+        List<ContentEncoding> preferred = List.of(ContentEncoding.ZSTD, ContentEncoding.GZIP);
+
+        assertThat(ContentEncoding.negotiate("zstd;q=0.5, gzip", preferred)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("*", preferred)).isEqualTo(ContentEncoding.ZSTD);
+        assertThat(ContentEncoding.negotiate("*, zstd;q=0", preferred)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("br, identity", preferred)).isNull();
+        assertThat(ContentEncoding.negotiate(null, preferred)).isNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/services/service-1");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static FilterChain writing(String body) {
+        return (request, response) -> {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.ceylanomer.serviceapi.common.exception;
+
+import com.ceylanomer.serviceapi.common.config.LocalizationConfiguration;
+import com.ceylanomer.serviceapi.common.response.ErrorResponse;
+import com.ceylanomer.serviceapi.common.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorResponseCatalog Unit Tests")
+class ErrorResponseCatalogTest {
+
+    private ErrorResponseCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames(LocalizationConfiguration.MESSAGE_BASENAMES);
+        messageSource.setDefaultEncoding("UTF-8");
+        catalog = new ErrorResponseCatalog(messageSource);
+        catalog.precompute();
+    }
+
+    @Test
+    @DisplayName("Should share one precomputed response across locales that resolve to the same bundle")
+    void get_WithoutArguments_ShouldReturnSharedResponse() {
+        // Act
+        Response<ErrorResponse> english = catalog.get("common.client.noSuchElement", Locale.ENGLISH);
+        Response<ErrorResponse> american = catalog.get("common.client.noSuchElement", Locale.US);
+        Response<ErrorResponse> turkish = catalog.get("common.client.noSuchElement", Locale.of("tr", "TR"));
+
+        // Assert
+        assertThat(english.getError().getCode()).isEqualTo("12");
+        assertThat(english.getError().getDescription()).isEqualTo(" No such element error occurred.");
+        assertThat(american).isSameAs(english);
+        assertThat(turkish).isSameAs(english);
+    }
+
+    @Test
+    @DisplayName("Should format messages with arguments on each call")
+    void get_WithArguments_ShouldFormatMessage() {
+        // Act
+        Response<ErrorResponse> response = catalog.get("replay.alreadyRunning", Locale.ENGLISH, "replay-1");
+
+        // Assert
+        assertThat(response.getError().getCode()).isEqualTo("103");
+        assertThat(response.getError().getDescription()).isEqualTo("Replay replay-1 is already running.");
+    }
+
+    @Test
+    @DisplayName("Should create expected business exceptions without a stack trace")
+    void exceptions_ShouldBeStackless() {
+        assertThat(new ServiceApiDataNotFoundException("common.client.noSuchElement").getStackTrace()).isEmpty();
+        assertThat(new ServiceApiBusinessException("replay.alreadyRunning", "replay-1").getStackTrace()).isEmpty();
+    }
+}
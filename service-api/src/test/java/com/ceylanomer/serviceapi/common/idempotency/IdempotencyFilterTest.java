@@ -0,0 +1,191 @@
+package com.ceylanomer.serviceapi.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("IdempotencyFilter Unit Tests")
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, IdempotentResponse> stored = new ConcurrentHashMap<>();
+    private IdempotencyStore idempotencyStore;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = mock(IdempotencyStore.class);
+        when(idempotencyStore.tryAcquire(any(), any())).thenReturn(true);
+        when(idempotencyStore.find(any())).thenAnswer(invocation -> stored.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> stored.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(idempotencyStore).complete(any(), any());
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("i18n/commons", "i18n/serviceapi");
+        filter = new IdempotencyFilter(idempotencyStore, new IdempotencyProperties(), messageSource, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run the request once and store its response")
+    void doFilter_WithNewKey_ShouldExecuteAndStore() throws Exception {
+        // Act
+        MockHttpServletResponse response = send("POST", "/api/services", "key-1", chain(null));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("created-1");
+        verify(idempotencyStore).complete(eq("key-1"), any(IdempotentResponse.class));
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without running the request again")
+    void doFilter_WithCompletedKey_ShouldReplayStoredResponse() throws Exception {
+        // Arrange
+        send("POST", "/api/services", "key-1", "[{\"resources\":[]}]", chain(null));
+
+        // Act
+        MockHttpServletResponse response = send("POST", "/api/services", "key-1", "[{\"resources\":[]}]", chain(null));
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("created-1");
+        assertThat(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.counter("idempotency.requests", "outcome", "replayed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different endpoint")
+    void doFilter_WithKeyFromOtherRequest_ShouldReturnUnprocessableEntity() throws Exception {
+        // Arrange
+        stored.put("key-1", new IdempotentResponse("POST /api/services", 201, "text/plain", "created-1".getBytes()));
+
+        // Act
+        MockHttpServletResponse response = send("DELETE", "/api/services/1", "key-1", chain(null));
+
+        // Assert
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("\"code\":\"104\"");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for the same endpoint with a different body")
+    void doFilter_WithKeyReusedForOtherBody_ShouldReturnUnprocessableEntity() throws Exception {
+        // Arrange
+        send("POST", "/api/services", "key-1", "[{\"resources\":[]}]", chain(null));
+
+        // Act
+        MockHttpServletResponse response = send("POST", "/api/services", "key-1", "[{\"resources\":[{\"id\":\"res-1\"}]}]", chain(null));
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("\"code\":\"104\"");
+        assertThat(meterRegistry.counter("idempotency.requests", "outcome", "mismatch").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hash the part of the body the handler did not read")
+    void doFilter_WithPartlyReadBody_ShouldFingerprintWholeBody() throws Exception {
+        // Arrange
+        FilterChain readsOneByte = (request, response) -> {
+            request.getInputStream().read();
+            chain(null).doFilter(request, response);
+        };
+        send("POST", "/api/services", "key-1", "[{\"resources\":[]}]", readsOneByte);
+
+        // Act
+        MockHttpServletResponse response = send("POST", "/api/services", "key-1", "[{\"resources\":[]}]", chain(null));
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should make concurrent duplicates wait for the first execution")
+    void doFilter_WithConcurrentDuplicates_ShouldExecuteOnce() throws Exception {
+        // Arrange
+        var release = new CountDownLatch(1);
+        FilterChain chain = chain(release);
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendUnchecked("key-1", chain));
+        await().untilAsserted(() -> assertThat(executions).hasValue(1));
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> sendUnchecked("key-1", chain));
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("created-1");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("created-1");
+        assertThat(executions).hasValue(1);
+        verify(idempotencyStore, never()).release(any());
+    }
+
+    private FilterChain chain(CountDownLatch release) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("text/plain");
+            httpResponse.getWriter().write("created-" + execution);
+        };
+    }
+
+    private MockHttpServletResponse sendUnchecked(String key, FilterChain chain) {
+        try {
+            return send("POST", "/api/services", key, chain);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String key, FilterChain chain) throws Exception {
+        return send(method, uri, key, null, chain);
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String key, String body, FilterChain chain) throws Exception {
+        var request = new MockHttpServletRequest(method, uri);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        if (body != null) {
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
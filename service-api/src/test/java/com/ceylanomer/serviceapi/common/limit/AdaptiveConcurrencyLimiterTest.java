@@ -0,0 +1,74 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should fail fast with retry-after once the limit is reached")
+    void acquire_OverLimit_ShouldReject() {
+        // Arrange
+        var settings = new ConcurrencyLimitProperties.Settings(4);
+        settings.setRetryAfter(Duration.ofSeconds(2));
+        var limiter = new AdaptiveConcurrencyLimiter("write", settings, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+
+        // Act & Assert
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(ServiceApiOverloadedException.class)
+                .extracting("retryAfter").isEqualTo(Duration.ofSeconds(2));
+        assertThat(meterRegistry.counter("concurrency.limit.rejected", "limiter", "write").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("concurrency.limit.in.flight").tag("limiter", "write").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should grow under steady latency and shrink when latency rises")
+    void onSample_WithLatencyChanges_ShouldAdaptLimit() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter("read", new ConcurrencyLimitProperties.Settings(20), meterRegistry);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(10), limiter.getLimit());
+        }
+        int grown = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(100), limiter.getLimit());
+        }
+
+        // Assert
+        assertThat(grown).isGreaterThan(20);
+        assertThat(limiter.getLimit()).isLessThan(grown / 2);
+        assertThat(meterRegistry.get("concurrency.limit").tag("limiter", "read").gauge().value()).isEqualTo(limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should not grow while demand stays well below the limit")
+    void onSample_WhenUnderused_ShouldKeepLimit() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter("read", new ConcurrencyLimitProperties.Settings(20), meterRegistry);
+
+        // Act
+        try (var permit = limiter.acquire()) {
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ceylanomer.serviceapi.common.limit;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("PriorityLoadShedder Unit Tests")
+class PriorityLoadShedderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should shed bulk traffic at its admission share while single reads are still admitted")
+    void admit_AboveBulkShare_ShouldShedBulkButAdmitSingleReads() {
+        // Arrange
+        var properties = new LoadSheddingProperties();
+        properties.setCapacity(10);
+        var shedder = new PriorityLoadShedder(properties, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            shedder.admit(TrafficClass.WRITE);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> shedder.admit(TrafficClass.BULK)).isInstanceOf(ServiceApiOverloadedException.class);
+        assertThat(shedder.admit(TrafficClass.SINGLE_READ).trafficClass()).isEqualTo(TrafficClass.SINGLE_READ);
+        assertThat(meterRegistry.counter("load.shedding.rejected", "class", "bulk", "reason", "priority").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should queue a class at its own permit limit and record the queue time")
+    void admit_AtClassLimit_ShouldQueueUntilReleased() {
+        // Arrange
+        var properties = new LoadSheddingProperties();
+        properties.getBulk().setMaxConcurrent(1);
+        var shedder = new PriorityLoadShedder(properties, meterRegistry);
+        var running = shedder.admit(TrafficClass.BULK);
+
+        // Act
+        var queued = CompletableFuture.supplyAsync(() -> shedder.admit(TrafficClass.BULK));
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> meterRegistry.get("load.shedding.queued").tag("class", "bulk").gauge().value() == 1);
+        running.close();
+
+        // Assert
+        assertThat(queued.join().trafficClass()).isEqualTo(TrafficClass.BULK);
+        assertThat(meterRegistry.get("load.shedding.queue.time").tag("class", "bulk").timer().count()).isEqualTo(2);
+        assertThat(shedder.admit(TrafficClass.SINGLE_READ)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject once the class queue is full or the queue time runs out")
+    void admit_WithFullQueue_ShouldReject() {
+        // Arrange
+        var properties = new LoadSheddingProperties();
+        properties.getBatchRead().setMaxConcurrent(1);
+        properties.getBatchRead().setMaxQueued(0);
+        properties.getWrite().setMaxConcurrent(1);
+        properties.getWrite().setMaxQueueTime(Duration.ofMillis(20));
+        var shedder = new PriorityLoadShedder(properties, meterRegistry);
+        shedder.admit(TrafficClass.BATCH_READ);
+        shedder.admit(TrafficClass.WRITE);
+
+        // Act & Assert
+        assertThatThrownBy(() -> shedder.admit(TrafficClass.BATCH_READ)).isInstanceOf(ServiceApiOverloadedException.class);
+        assertThatThrownBy(() -> shedder.admit(TrafficClass.WRITE)).isInstanceOf(ServiceApiOverloadedException.class);
+        assertThat(meterRegistry.counter("load.shedding.rejected", "class", "batch-read", "reason", "queue-full").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("load.shedding.rejected", "class", "write", "reason", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let callers lower but never raise their traffic class")
+    void classify_WithTrafficClassHeader_ShouldOnlyDowngrade() {
+        // Arrange
+        var interceptor = new LoadSheddingInterceptor(new PriorityLoadShedder(new LoadSheddingProperties(), meterRegistry));
+        var batchRead = new MockHttpServletRequest("GET", "/api/services/1");
+        batchRead.addHeader(LoadSheddingInterceptor.TRAFFIC_CLASS_HEADER, "batch-read");
+        var upgradedWrite = new MockHttpServletRequest("PUT", "/api/services/1");
+        upgradedWrite.addHeader(LoadSheddingInterceptor.TRAFFIC_CLASS_HEADER, "single-read");
+
+        // Act & Assert
+        assertThat(interceptor.classify(batchRead, null)).isEqualTo(TrafficClass.BATCH_READ);
+        assertThat(interceptor.classify(upgradedWrite, null)).isEqualTo(TrafficClass.WRITE);
+        assertThat(interceptor.classify(new MockHttpServletRequest("GET", "/api/services/1"), null)).isEqualTo(TrafficClass.SINGLE_READ);
+    }
+}
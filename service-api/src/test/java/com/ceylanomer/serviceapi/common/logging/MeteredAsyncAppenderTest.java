@@ -0,0 +1,70 @@
+package com.ceylanomer.serviceapi.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MeteredAsyncAppender Unit Tests")
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeteredAsyncAppender appender = new MeteredAsyncAppender();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Should count INFO events discarded near capacity and WARN events refused by a full queue")
+    void append_WithBlockedConsumer_ShouldCountDrops() {
+        // Arrange
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        var blocked = new AppenderBase<ILoggingEvent>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocked.setContext(context);
+        blocked.start();
+        appender.setContext(context);
+        appender.setQueueSize(10);
+        appender.setNeverBlock(true);
+        appender.addAppender(blocked);
+        appender.start();
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+        for (int i = 0; i < 30; i++) {
+            appender.doAppend(event(Level.WARN));
+        }
+
+        // Assert
+        assertThat(appender.getDiscarded()).isPositive();
+        assertThat(appender.getOverflowed()).isPositive();
+        assertThat(appender.getNumberOfElementsInQueue()).isLessThanOrEqualTo(10);
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, "message", null, null);
+    }
+}
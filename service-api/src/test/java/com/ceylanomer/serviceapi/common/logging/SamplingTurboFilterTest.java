@@ -0,0 +1,75 @@
+package com.ceylanomer.serviceapi.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SamplingTurboFilter Unit Tests")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setLoggers("com.example.rest, com.example.command");
+        filter.setPermitsPerSecond(3);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Should let the configured number of INFO events through per logger and deny the rest")
+    void decide_OverRate_ShouldDenyInfoEvents() {
+        // Arrange
+        Logger logger = context.getLogger("com.example.rest.ServiceController");
+
+        // Act
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(null, logger, Level.INFO, "Fetching service with id: {}", new Object[]{i}, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // Assert
+        assertThat(passed).isLessThanOrEqualTo(6).isGreaterThanOrEqualTo(3);
+        assertThat(filter.getSuppressed()).isEqualTo(10 - passed);
+    }
+
+    @Test
+    @DisplayName("Should never sample warnings, level checks or loggers outside the configured prefixes")
+    void decide_WithWarningsOrOtherLoggers_ShouldStayNeutral() {
+        // Arrange
+        Logger sampled = context.getLogger("com.example.command.CreateHandler");
+        Logger other = context.getLogger("com.example.replay.Replayer");
+        for (int i = 0; i < 10; i++) {
+            filter.decide(null, sampled, Level.INFO, "created {}", new Object[]{i}, null);
+        }
+        long suppressed = filter.getSuppressed();
+
+        // Act & Assert
+        assertThat(filter.decide(null, sampled, Level.WARN, "failed {}", new Object[]{1}, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sampled, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, other, Level.INFO, "progress {}", new Object[]{1}, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.getSuppressed()).isEqualTo(suppressed);
+    }
+
+    @Test
+    @DisplayName("Should summarize large collections by listing only the first ids")
+    void ids_WithLargeCollection_ShouldTruncate() {
+        // Act & Assert
+        assertThat(LogSummary.ids(List.of("a", "b"), String::valueOf)).isEqualTo("[a, b]");
+        assertThat(LogSummary.ids(IntStream.range(0, 8).boxed().toList(), String::valueOf))
+                .isEqualTo("[0, 1, 2, 3, 4, ... 3 more]");
+        assertThat(LogSummary.lazy(() -> "summary")).hasToString("summary");
+    }
+}
@@ -0,0 +1,117 @@
+package com.ceylanomer.serviceapi.common.offheap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapRecordStore Unit Tests")
+class OffHeapRecordStoreTest {
+
+    private static final RecordDecoder<String> AS_STRING =
+            (key, buffer, offset, length) -> new String(buffer, offset, length, StandardCharsets.UTF_8);
+
+    private final OffHeapRecordStore store = new OffHeapRecordStore(64, 0.5);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should return the latest value written for a key and null once it is removed")
+    void put_WithOverwriteAndRemove_ShouldReturnLatestValue() {
+        // Arrange
+        put("service-1", "first");
+        put("service-1", "second");
+
+        // Act
+        String value = store.get("service-1", AS_STRING);
+        store.remove("service-1");
+
+        // Assert
+        assertThat(value).isEqualTo("second");
+        assertThat(store.get("service-1", AS_STRING)).isNull();
+        assertThat(store.size()).isZero();
+        assertThat(store.liveBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give records larger than a slab their own slab")
+    void put_WithRecordLargerThanSlab_ShouldStoreIt() {
+        // Arrange
+        String large = "x".repeat(1_000);
+
+        // Act
+        put("large", large);
+        put("small", "value");
+
+        // Assert
+        assertThat(store.get("large", AS_STRING)).isEqualTo(large);
+        assertThat(store.get("small", AS_STRING)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Should compact once overwritten records pass the garbage threshold and keep live values intact")
+    void put_WithManyOverwrites_ShouldCompact() {
+        // Act
+        for (int i = 0; i < 100; i++) {
+            put("service-1", "version-" + i);
+            put("service-2", "stable");
+        }
+
+        // Assert
+        assertThat(store.compactions()).isPositive();
+        assertThat(store.get("service-1", AS_STRING)).isEqualTo("version-99");
+        assertThat(store.get("service-2", AS_STRING)).isEqualTo("stable");
+        assertThat(store.allocatedBytes()).isLessThanOrEqualTo(store.liveBytes() * 4);
+    }
+
+    @Test
+    @DisplayName("Should keep serving consistent values to readers while a writer overwrites and compacts")
+    void get_WithConcurrentCompaction_ShouldNeverReturnTornValues() throws Exception {
+        // Arrange
+        put("service-1", "value-0000");
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int r = 0; r < 4; r++) {
+            results.add(readers.submit(() -> {
+                boolean consistent = true;
+                while (running.get()) {
+                    String value = store.get("service-1", AS_STRING);
+                    consistent &= value != null && value.matches("value-\\d{4}");
+                }
+                return consistent;
+            }));
+        }
+        for (int i = 1; i < 5_000; i++) {
+            put("service-1", "value-%04d".formatted(i));
+        }
+        running.set(false);
+        readers.shutdown();
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(store.compactions()).isPositive();
+        assertThat(store.get("service-1", AS_STRING)).isEqualTo("value-4999");
+    }
+
+    private void put(String key, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        store.put(key, bytes, 0, bytes.length);
+    }
+}
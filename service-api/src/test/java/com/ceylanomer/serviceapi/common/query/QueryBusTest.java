@@ -0,0 +1,114 @@
+package com.ceylanomer.serviceapi.common.query;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventType;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimitProperties;
+import com.ceylanomer.serviceapi.common.limit.ConcurrencyLimiters;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryBus Unit Tests")
+class QueryBusTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCacheProperties queryCacheProperties = new QueryCacheProperties();
+    private QueryBus queryBus;
+
+    @BeforeEach
+    void setUp() {
+        var context = new GenericApplicationContext();
+        context.registerBean(EchoQueryHandler.class, () -> new EchoQueryHandler(calls));
+        context.refresh();
+        queryBus = new QueryBus(context, context.getBeanProvider(QueryInterceptor.class), queryCacheProperties, meterRegistry,
+                new ConcurrencyLimiters(new ConcurrencyLimitProperties(), meterRegistry));
+        queryBus.registerHandlers();
+    }
+
+    @Test
+    @DisplayName("Should serve equal queries from the cache")
+    void execute_WithEqualQueries_ShouldInvokeHandlerOnce() {
+        // Act
+        String first = queryBus.execute(new EchoQuery("a"));
+        String second = queryBus.execute(new EchoQuery("a"));
+
+        // Assert
+        assertThat(first).isEqualTo("a:1");
+        assertThat(second).isEqualTo("a:1");
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "EchoQuery").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict only the queries affected by a domain event")
+    void invalidate_WithDomainEvent_ShouldEvictAffectedQueries() {
+        // Arrange
+        queryBus.execute(new EchoQuery("a"));
+        queryBus.execute(new EchoQuery("b"));
+
+        // Act
+        queryBus.invalidate(new ServiceDomainEvent("a", 1L, DomainEventType.SERVICE_UPDATED));
+        String a = queryBus.execute(new EchoQuery("a"));
+        String b = queryBus.execute(new EchoQuery("b"));
+
+        // Assert
+        assertThat(a).isEqualTo("a:3");
+        assertThat(b).isEqualTo("b:2");
+        assertThat(meterRegistry.counter("query.cache.invalidations", "cache", "EchoQuery").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when it is disabled for the query type")
+    void execute_WithCacheDisabled_ShouldInvokeHandlerEachTime() {
+        // Arrange
+        var settings = new QueryCacheProperties.Settings();
+        settings.setEnabled(false);
+        queryCacheProperties.getQueries().put("EchoQuery", settings);
+        setUp();
+
+        // Act
+        queryBus.execute(new EchoQuery("a"));
+        queryBus.execute(new EchoQuery("a"));
+
+        // Assert
+        assertThat(calls).hasValue(2);
+    }
+
+    @EqualsAndHashCode
+    static class EchoQuery implements Query {
+        private final String value;
+
+        EchoQuery(String value) {
+            this.value = value;
+        }
+    }
+
+    static class EchoQueryHandler implements CacheableQueryHandler<EchoQuery, String> {
+        private final AtomicInteger calls;
+
+        EchoQueryHandler(AtomicInteger calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public String handle(EchoQuery query) {
+            return query.value + ":" + calls.incrementAndGet();
+        }
+
+        @Override
+        public Collection<EchoQuery> invalidatedBy(DomainEvent event) {
+            return List.of(new EchoQuery(event.key()));
+        }
+    }
+}
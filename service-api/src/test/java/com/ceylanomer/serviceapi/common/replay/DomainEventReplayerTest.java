@@ -0,0 +1,187 @@
+package com.ceylanomer.serviceapi.common.replay;
+
+import com.ceylanomer.serviceapi.common.aggregate.DomainEvent;
+import com.ceylanomer.serviceapi.common.aggregate.DomainEventHandler;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiBusinessException;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.common.ServiceDomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DomainEventReplayer Unit Tests")
+class DomainEventReplayerTest {
+
+    private final Map<String, List<Long>> versionsByKey = new ConcurrentHashMap<>();
+    private final ReplayCheckpointMongoRepository checkpointRepository = mock(ReplayCheckpointMongoRepository.class);
+    private final List<ReplayCheckpointDocument> savedCheckpoints = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        var context = new GenericApplicationContext();
+        context.registerBean("recordingHandler", RecordingHandler.class, () -> new RecordingHandler(versionsByKey));
+        context.registerBean("liveOnlyHandler", LiveOnlyHandler.class, LiveOnlyHandler::new);
+        context.refresh();
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            savedCheckpoints.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        var properties = new ReplayProperties();
+        properties.setWorkers(4);
+        properties.setBatchSize(7);
+        replayer = new DomainEventReplayer(context, List.of(new FakeSource()), checkpointRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should replay every event keeping order within a key")
+    void start_WithFreshReplay_ShouldDeliverAllEventsInKeyOrder() {
+        // Arrange
+        when(checkpointRepository.findById("rebuild")).thenReturn(Optional.empty());
+
+        // Act
+        ReplayStatus status = replayer.start("rebuild", "fake", List.of("recordingHandler"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> status.getState() != ReplayState.RUNNING);
+
+        // Assert
+        assertThat(status.getState()).isEqualTo(ReplayState.COMPLETED);
+        assertThat(status.getProcessed()).isEqualTo(60);
+        assertThat(versionsByKey).hasSize(20);
+        versionsByKey.values().forEach(versions -> assertThat(versions).containsExactly(1L, 2L, 3L));
+        assertThat(savedCheckpoints.get(savedCheckpoints.size() - 1).getState()).isEqualTo(ReplayState.COMPLETED);
+        assertThat(savedCheckpoints.get(savedCheckpoints.size() - 1).getPosition()).isEqualTo("service-19");
+        assertThat(meterRegistry.get("domain.event.replay.events").counters())
+                .singleElement()
+                .satisfies(counter -> {
+                    assertThat(counter.getId().getTag("source")).isEqualTo("fake");
+                    assertThat(counter.getId().getTag("replay")).isNull();
+                    assertThat(counter.count()).isEqualTo(60);
+                });
+    }
+
+    @Test
+    @DisplayName("Should keep a finished status only for the configured retention")
+    void status_AfterFinishedRetention_ShouldForgetReplay() {
+        // Arrange
+        var properties = new ReplayProperties();
+        properties.setFinishedRetention(Duration.ofSeconds(1));
+        var context = new GenericApplicationContext();
+        context.registerBean("recordingHandler", RecordingHandler.class, () -> new RecordingHandler(versionsByKey));
+        context.registerBean("liveOnlyHandler", LiveOnlyHandler.class, LiveOnlyHandler::new);
+        context.refresh();
+        replayer = new DomainEventReplayer(context, List.of(new FakeSource()), checkpointRepository, properties, new SimpleMeterRegistry());
+        when(checkpointRepository.findById("rebuild")).thenReturn(Optional.empty());
+
+        // Act
+        ReplayStatus status = replayer.start("rebuild", "fake", List.of("recordingHandler"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> status.getFinishedDate() != null);
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(replayer.status("rebuild")).isSameAs(status));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThatThrownBy(() -> replayer.status("rebuild"))
+                .isInstanceOf(ServiceApiDataNotFoundException.class));
+    }
+
+    @Test
+    @DisplayName("Should resume after the stored checkpoint")
+    void start_WithStoredCheckpoint_ShouldSkipProcessedPositions() {
+        // Arrange
+        when(checkpointRepository.findById("rebuild")).thenReturn(Optional.of(ReplayCheckpointDocument.builder()
+                .replayId("rebuild").source("fake").position("service-14").processed(45).state(ReplayState.FAILED).build()));
+
+        // Act
+        ReplayStatus status = replayer.start("rebuild", "fake", List.of("recordingHandler"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> status.getState() != ReplayState.RUNNING);
+
+        // Assert
+        assertThat(status.getState()).isEqualTo(ReplayState.COMPLETED);
+        assertThat(status.getProcessed()).isEqualTo(60);
+        assertThat(versionsByKey).containsOnlyKeys("service-15", "service-16", "service-17", "service-18", "service-19");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown handlers")
+    void start_WithUnknownHandler_ShouldThrowException() {
+        assertThatThrownBy(() -> replayer.start("rebuild", "fake", List.of("missingHandler")))
+                .isInstanceOf(ServiceApiBusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a replay without handlers instead of replaying into every handler")
+    void start_WithoutHandlers_ShouldThrowException() {
+        assertThatThrownBy(() -> replayer.start("rebuild", "fake", List.of()))
+                .isInstanceOf(ServiceApiBusinessException.class)
+                .extracting("key").isEqualTo("replay.handler.required");
+    }
+
+    @Test
+    @DisplayName("Should reject handlers that do not opt in to replay")
+    void start_WithLiveOnlyHandler_ShouldThrowException() {
+        assertThatThrownBy(() -> replayer.start("rebuild", "fake", List.of("recordingHandler", "liveOnlyHandler")))
+                .isInstanceOf(ServiceApiBusinessException.class)
+                .extracting("key").isEqualTo("replay.handler.notReplayable");
+    }
+
+    static class RecordingHandler extends DomainEventHandler<ServiceDomainEvent> {
+        private final Map<String, List<Long>> versionsByKey;
+
+        RecordingHandler(Map<String, List<Long>> versionsByKey) {
+            this.versionsByKey = versionsByKey;
+        }
+
+        @Override
+        public boolean supportsReplay() {
+            return true;
+        }
+
+        @Override
+        protected void handle(ServiceDomainEvent event) {
+            versionsByKey.computeIfAbsent(event.key(), key -> Collections.synchronizedList(new ArrayList<>())).add(event.version());
+        }
+    }
+
+    static class LiveOnlyHandler extends DomainEventHandler<ServiceDomainEvent> {
+        @Override
+        protected void handle(ServiceDomainEvent event) {
+        }
+    }
+
+    static class FakeSource implements DomainEventSource {
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public Stream<ReplayRecord> stream(String afterPosition) {
+            int first = afterPosition == null ? 0 : Integer.parseInt(afterPosition.substring("service-".length())) + 1;
+            return IntStream.range(first, 20).boxed().flatMap(i -> {
+                var service = new ServiceAggregate("service-" + i, List.of());
+                service.updateResources(List.of());
+                service.delete();
+                return service.getDomainEvents().stream().map(event -> new ReplayRecord(service.getId(), (DomainEvent) event));
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import com.ceylanomer.serviceapi.common.response.Response;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequest;
+import com.ceylanomer.serviceapi.service.rest.response.ServiceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PrecompiledJacksonHttpMessageConverter Unit Tests")
+class PrecompiledJacksonHttpMessageConverterTest {
+
+    private static final Type RESPONSE_TYPE = ResolvableType.forClassWithGenerics(Response.class, ServiceResponse.class).getType();
+    private static final Type REQUESTS_TYPE = ResolvableType.forClassWithGenerics(List.class, ServiceRequest.class).getType();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+    private final OutputBufferPool bufferPool = new OutputBufferPool(4, 64, 1024);
+    private final PrecompiledJacksonHttpMessageConverter converter =
+            new PrecompiledJacksonHttpMessageConverter(objectMapper, bufferPool, List.of(RESPONSE_TYPE), List.of(REQUESTS_TYPE));
+
+    @Test
+    @DisplayName("Should write generic responses with a content length and return the buffer to the pool")
+    void write_WithGenericResponse_ShouldMatchObjectMapperOutput() throws Exception {
+        // Arrange
+        var response = new Response<>(ServiceResponse.builder().id("service-1").resources(createTestResources()).build());
+        var output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(response, RESPONSE_TYPE, MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        String expected = objectMapper.writeValueAsString(response);
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(bufferPool.pooled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop buffers that grew past the retained size instead of pooling them")
+    void write_WithLargeResponse_ShouldNotPoolGrownBuffer() throws Exception {
+        // Arrange
+        var response = new Response<>(ServiceResponse.builder().id("x".repeat(2_000)).resources(List.of()).build());
+
+        // Act
+        converter.write(response, RESPONSE_TYPE, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+        // Assert
+        assertThat(bufferPool.pooled()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read precompiled request types and report malformed JSON as unreadable")
+    void read_WithRequestList_ShouldUsePrecompiledReader() throws Exception {
+        // Arrange
+        byte[] body = objectMapper.writeValueAsBytes(List.of(new ServiceRequest(createTestResources())));
+        var input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        var malformed = new MockHttpInputMessage("[{".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        Object result = converter.read(REQUESTS_TYPE, null, input);
+
+        // Assert
+        assertThat(result).asInstanceOf(InstanceOfAssertFactories.LIST)
+                .containsExactly(new ServiceRequest(createTestResources()));
+        assertThatThrownBy(() -> converter.read(REQUESTS_TYPE, null, malformed)).isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    private List<Resource> createTestResources() {
+        return List.of(
+                new Resource("res-1", List.of(new Owner("owner-1", "Owner 1", "ACC-1", 1))),
+                new Resource("res-2", List.of(new Owner("owner-2", "Owner 2", "ACC-2", 2))));
+    }
+}
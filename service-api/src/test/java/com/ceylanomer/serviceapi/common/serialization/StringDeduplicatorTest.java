@@ -0,0 +1,32 @@
+package com.ceylanomer.serviceapi.common.serialization;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StringDeduplicator Unit Tests")
+class StringDeduplicatorTest {
+
+    @Test
+    @DisplayName("Should keep values with neighbouring hashes apart")
+    void dedupe_WithSequentialValues_ShouldReturnFirstInstances() {
+        // Arrange
+        var strings = new StringDeduplicator(4096);
+        List<String> first = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            first.add(strings.dedupe(new String("Owner " + i)));
+            first.add(strings.dedupe(new String("ACC-" + i)));
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertThat(strings.dedupe(new String("Owner " + i))).isSameAs(first.get(2 * i));
+            char[] chars = ("ACC-" + i).toCharArray();
+            assertThat(strings.dedupe(chars, 0, chars.length)).isSameAs(first.get(2 * i + 1));
+        }
+    }
+}
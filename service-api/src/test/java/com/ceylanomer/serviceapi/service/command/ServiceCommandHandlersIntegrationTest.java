@@ -116,8 +116,8 @@ class ServiceCommandHandlersIntegrationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getResources()).hasSize(2);
-            assertThat(result.getResources().get(0).getOwners()).hasSize(3);
-            assertThat(result.getResources().get(1).getOwners()).hasSize(1);
+            assertThat(result.getResources().get(0).owners()).hasSize(3);
+            assertThat(result.getResources().get(1).owners()).hasSize(1);
         }
     }
 
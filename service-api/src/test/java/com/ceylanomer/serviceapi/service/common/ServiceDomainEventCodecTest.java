@@ -0,0 +1,146 @@
+package com.ceylanomer.serviceapi.service.common;
+
+import com.ceylanomer.serviceapi.common.serialization.BinaryWriter;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ServiceDomainEventCodec Unit Tests")
+class ServiceDomainEventCodecTest {
+
+    private final ServiceDomainEventCodec codec = new ServiceDomainEventCodec();
+
+    @Test
+    @DisplayName("Should round trip created event with resources and header")
+    void encodeDecode_CreatedEvent_ShouldPreserveAllFields() {
+        // Arrange
+        ServiceAggregate service = new ServiceAggregate("service-123", createTestResources(2, 3));
+        var event = (ServiceCreatedDomainEvent) service.getDomainEvents().get(0);
+
+        // Act
+        var decoded = codec.decode(codec.encode(event));
+
+        // Assert
+        assertThat(decoded).isInstanceOf(ServiceCreatedDomainEvent.class);
+        assertThat(decoded.getId()).isEqualTo("service-123");
+        assertThat(decoded.getType()).isEqualTo(event.getType());
+        assertThat(decoded.version()).isEqualTo(1L);
+        assertThat(decoded.messageId()).isEqualTo(event.messageId());
+        assertThat(decoded.getHeader().getTimeStamp()).isEqualTo(event.getHeader().getTimeStamp());
+        assertThat(((ServiceCreatedDomainEvent) decoded).getResources()).isEqualTo(event.getResources());
+    }
+
+    @Test
+    @DisplayName("Should round trip updated and deleted events")
+    void encodeDecode_UpdatedAndDeletedEvents_ShouldPreserveFields() {
+        // Arrange
+        ServiceAggregate service = new ServiceAggregate("service-123", createTestResources(1, 1));
+        service.updateResources(createTestResources(3, 2));
+        service.delete();
+        var updated = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+        var deleted = (ServiceDeletedDomainEvent) service.getDomainEvents().get(2);
+
+        // Act
+        var decodedUpdated = (ServiceUpdatedDomainEvent) codec.decode(codec.encode(updated));
+        var decodedDeleted = (ServiceDeletedDomainEvent) codec.decode(codec.encode(deleted));
+
+        // Assert
+        assertThat(decodedUpdated.getChanges()).isEqualTo(updated.getChanges());
+        assertThat(decodedUpdated.applyTo(createTestResources(1, 1))).isEqualTo(service.getResources());
+        assertThat(decodedUpdated.version()).isEqualTo(2L);
+        assertThat(decodedDeleted.getStatus()).isEqualTo(Status.DELETED);
+        assertThat(decodedDeleted.key()).isEqualTo("service-123");
+        assertThat(decodedDeleted.version()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should round trip a replacement of the whole resource list")
+    void encodeDecode_ReplacedResources_ShouldPreserveOrder() {
+        // Arrange
+        List<Resource> resources = createTestResources(3, 1);
+        ServiceAggregate service = new ServiceAggregate("service-123", resources);
+        service.updateResources(List.of(resources.get(2), resources.get(0), resources.get(2)));
+        var updated = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+
+        // Act
+        var decoded = (ServiceUpdatedDomainEvent) codec.decode(codec.encode(updated));
+
+        // Assert
+        assertThat(decoded.getChanges()).isEqualTo(updated.getChanges());
+        assertThat(decoded.applyTo(resources)).isEqualTo(service.getResources());
+    }
+
+    @Test
+    @DisplayName("Should skip fields unknown to the decoder")
+    void decode_WithUnknownFields_ShouldIgnoreThem() {
+        // Arrange
+        BinaryWriter writer = new BinaryWriter().begin(ServiceDomainEventCodec.FORMAT_VERSION);
+        writer.writeVarintField(1, 3);
+        writer.writeStringField(2, "service-123");
+        writer.writeStringField(40, "added-by-a-newer-writer");
+        int nested = writer.beginMessage(41);
+        writer.writeFixed64Field(1, 42L);
+        writer.endMessage(nested);
+        writer.writeVarintField(9, 2);
+        byte[] bytes = writer.finish().toByteArray();
+
+        // Act
+        var decoded = (ServiceDeletedDomainEvent) codec.decode(bytes);
+
+        // Assert
+        assertThat(decoded.getId()).isEqualTo("service-123");
+        assertThat(decoded.getStatus()).isEqualTo(Status.DELETED);
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported format versions")
+    void decode_WithUnsupportedVersion_ShouldThrowException() {
+        // Arrange
+        byte[] bytes = new BinaryWriter().begin(ServiceDomainEventCodec.FORMAT_VERSION + 1).finish().toByteArray();
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should be considerably smaller than the Jackson encoding")
+    void encode_LargeUpdatedEvent_ShouldBeSmallerThanJson() throws Exception {
+        // Arrange
+        ServiceAggregate service = new ServiceAggregate("service-123", createTestResources(1, 1));
+        service.updateResources(createTestResources(200, 5));
+        var event = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+
+        // Act
+        byte[] binary = codec.encode(event);
+        byte[] json = new ObjectMapper().writeValueAsBytes(event);
+
+        // Assert
+        assertThat(binary.length).isLessThan(json.length / 3);
+    }
+
+    private List<Resource> createTestResources(int resourceCount, int ownersPerResource) {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            List<Owner> owners = new ArrayList<>();
+            for (int j = 0; j < ownersPerResource; j++) {
+                owners.add(new Owner("owner-" + j, "Owner Name " + j, "ACC00" + j, j - 1));
+            }
+            resources.add(new Resource("res-" + i, owners));
+        }
+        return resources;
+    }
+}
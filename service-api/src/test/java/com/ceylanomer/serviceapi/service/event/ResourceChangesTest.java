@@ -0,0 +1,166 @@
+package com.ceylanomer.serviceapi.service.event;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResourceChanges Unit Tests")
+class ResourceChangesTest {
+
+    @Test
+    @DisplayName("Should emit only the owner that changed")
+    void diff_WithSingleOwnerChange_ShouldEmitSingleChange() {
+        // Arrange
+        List<Resource> previous = createTestResources(100);
+        List<Resource> current = createTestResources(100);
+        Owner changedOwner = new Owner("owner-1", "Renamed", "ACC-1", 5);
+        current.set(42, withOwners(current.get(42), owners -> owners.set(1, changedOwner)));
+
+        // Act
+        List<ResourceChange> changes = ResourceChanges.diff(previous, current);
+
+        // Assert
+        assertThat(changes).containsExactly(ResourceChange.ownerChanged("res-42", changedOwner));
+    }
+
+    @Test
+    @DisplayName("Should detect added and removed resources and owners")
+    void diff_WithStructuralChanges_ShouldEmitAllChangeTypes() {
+        // Arrange
+        List<Resource> previous = createTestResources(3);
+        List<Resource> current = createTestResources(3);
+        current.remove(0);
+        Resource added = new Resource("res-new", List.of(new Owner("owner-x", "New", "ACC-X", 1)));
+        current.add(added);
+        current.set(0, withOwners(current.get(0), owners -> owners.remove(0)));
+        Owner addedOwner = new Owner("owner-y", "Another", "ACC-Y", 2);
+        current.set(1, withOwners(current.get(1), owners -> owners.add(addedOwner)));
+
+        // Act
+        List<ResourceChange> changes = ResourceChanges.diff(previous, current);
+
+        // Assert
+        assertThat(changes).containsExactlyInAnyOrder(
+                ResourceChange.resourceRemoved("res-0"),
+                ResourceChange.ownerRemoved("res-1", "owner-0"),
+                ResourceChange.ownerAdded("res-2", addedOwner),
+                ResourceChange.resourceAdded(added));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the new resources when changes are applied")
+    void apply_DiffOfTwoLists_ShouldReproduceCurrentResources() {
+        // Arrange
+        List<Resource> previous = createTestResources(5);
+        List<Resource> current = createTestResources(5);
+        current.remove(4);
+        current.set(2, withOwners(current.get(2), owners -> owners.set(0, new Owner("owner-0", "Changed", "ACC-0", 9))));
+        current.set(3, withOwners(current.get(3), owners -> owners.remove(1)));
+
+        // Act
+        List<Resource> rebuilt = ResourceChanges.apply(previous, ResourceChanges.diff(previous, current));
+
+        // Assert
+        assertThat(rebuilt).isEqualTo(current);
+        assertThat(previous).isEqualTo(createTestResources(5));
+    }
+
+    @Test
+    @DisplayName("Should replace the list when resources or owners are reordered")
+    void applyTo_WithReorderedResources_ShouldReproduceAggregateResources() {
+        // Arrange
+        List<Resource> previous = createTestResources(3);
+        ServiceAggregate service = new ServiceAggregate("service-123", previous);
+        List<Resource> current = new ArrayList<>(List.of(previous.get(2), previous.get(0), previous.get(1)));
+        current.set(1, withOwners(current.get(1), owners -> owners.add(0, owners.remove(1))));
+
+        // Act
+        service.updateResources(current);
+
+        // Assert
+        var event = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+        assertThat(event.getChanges()).extracting(ResourceChange::getType).containsExactly(ResourceChangeType.RESOURCES_REPLACED);
+        assertThat(event.applyTo(createTestResources(3))).isEqualTo(service.getResources()).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should keep repeated resource and owner ids when changes are applied")
+    void applyTo_WithDuplicatedIds_ShouldReproduceAggregateResources() {
+        // Arrange
+        List<Resource> previous = createTestResources(2);
+        ServiceAggregate service = new ServiceAggregate("service-123", previous);
+        List<Resource> current = new ArrayList<>(previous);
+        current.add(withOwners(previous.get(0), owners -> owners.add(owners.get(0))));
+
+        // Act
+        service.updateResources(current);
+
+        // Assert
+        var event = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+        assertThat(event.applyTo(createTestResources(2))).isEqualTo(service.getResources()).isEqualTo(current);
+
+        // Act
+        service.updateResources(createTestResources(2));
+
+        // Assert
+        var dedup = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(2);
+        assertThat(dedup.applyTo(current)).isEqualTo(createTestResources(2));
+    }
+
+    @Test
+    @DisplayName("Should keep a resource added in the middle in place")
+    void applyTo_WithResourceInsertedInMiddle_ShouldKeepPosition() {
+        // Arrange
+        List<Resource> previous = createTestResources(3);
+        List<Resource> current = createTestResources(3);
+        current.add(1, new Resource("res-new", List.of(new Owner("owner-x", "New", "ACC-X", 1))));
+
+        // Act
+        List<Resource> rebuilt = ResourceChanges.apply(previous, ResourceChanges.diff(previous, current));
+
+        // Assert
+        assertThat(rebuilt).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should carry deltas on the aggregate update event")
+    void updateResources_ShouldPublishDeltaEvent() {
+        // Arrange
+        ServiceAggregate service = new ServiceAggregate("service-123", createTestResources(2));
+        List<Resource> current = createTestResources(2);
+        current.set(1, withOwners(current.get(1), owners -> owners.remove(0)));
+
+        // Act
+        service.updateResources(current);
+
+        // Assert
+        var event = (ServiceUpdatedDomainEvent) service.getDomainEvents().get(1);
+        assertThat(event.getChanges()).containsExactly(ResourceChange.ownerRemoved("res-1", "owner-0"));
+        assertThat(event.applyTo(createTestResources(2))).isEqualTo(current);
+    }
+
+    private static Resource withOwners(Resource resource, Consumer<List<Owner>> change) {
+        List<Owner> owners = new ArrayList<>(resource.owners());
+        change.accept(owners);
+        return new Resource(resource.id(), owners);
+    }
+
+    private List<Resource> createTestResources(int count) {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Owner> owners = new ArrayList<>();
+            owners.add(new Owner("owner-0", "Owner " + i, "ACC-0", 1));
+            owners.add(new Owner("owner-1", "Owner " + i, "ACC-1", 2));
+            resources.add(new Resource("res-" + i, owners));
+        }
+        return resources;
+    }
+}
@@ -0,0 +1,205 @@
+package com.ceylanomer.serviceapi.service.grpc;
+
+import com.ceylanomer.serviceapi.common.command.CommandBus;
+import com.ceylanomer.serviceapi.common.config.LocalizationConfiguration;
+import com.ceylanomer.serviceapi.common.exception.ErrorResponseCatalog;
+import com.ceylanomer.serviceapi.common.exception.ServiceApiDataNotFoundException;
+import com.ceylanomer.serviceapi.common.grpc.GrpcExceptionTranslator;
+import com.ceylanomer.serviceapi.common.grpc.GrpcLoadSheddingInterceptor;
+import com.ceylanomer.serviceapi.common.grpc.GrpcServerProperties;
+import com.ceylanomer.serviceapi.common.limit.LoadSheddingProperties;
+import com.ceylanomer.serviceapi.common.limit.PriorityLoadShedder;
+import com.ceylanomer.serviceapi.common.query.QueryBus;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.command.CreateServiceCommand;
+import com.ceylanomer.serviceapi.service.grpc.v1.BatchGetServiceResult;
+import com.ceylanomer.serviceapi.service.grpc.v1.BatchGetServicesRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.BulkCreateServicesResponse;
+import com.ceylanomer.serviceapi.service.grpc.v1.CreateServiceRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.GetServiceRequest;
+import com.ceylanomer.serviceapi.service.grpc.v1.Owner;
+import com.ceylanomer.serviceapi.service.grpc.v1.Resource;
+import com.ceylanomer.serviceapi.service.grpc.v1.Service;
+import com.ceylanomer.serviceapi.service.grpc.v1.ServiceApiGrpc;
+import com.ceylanomer.serviceapi.service.query.GetServiceByIdQuery;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequestLimitProperties;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ServiceGrpcService Unit Tests")
+class ServiceGrpcServiceTest {
+
+    private final QueryBus queryBus = mock(QueryBus.class);
+    private final CommandBus commandBus = mock(CommandBus.class);
+    private final GrpcServerProperties grpcServerProperties = new GrpcServerProperties();
+    private final ServiceRequestLimitProperties limits = new ServiceRequestLimitProperties();
+    private final AtomicInteger created = new AtomicInteger();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames(LocalizationConfiguration.MESSAGE_BASENAMES);
+        messageSource.setDefaultEncoding("UTF-8");
+        var translator = new GrpcExceptionTranslator(new ErrorResponseCatalog(messageSource));
+        var interceptor = new GrpcLoadSheddingInterceptor(new PriorityLoadShedder(new LoadSheddingProperties(), new SimpleMeterRegistry()), translator);
+        var service = new ServiceGrpcService(queryBus, commandBus, translator, grpcServerProperties, limits);
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(ServerInterceptors.intercept(service, interceptor)).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+
+        when(queryBus.execute(any(GetServiceByIdQuery.class))).thenAnswer(invocation -> {
+            String id = invocation.<GetServiceByIdQuery>getArgument(0).getId();
+            if (id.startsWith("missing")) {
+                throw new ServiceApiDataNotFoundException("common.client.noSuchElement");
+            }
+            return new ServiceAggregate(id, List.of(new com.ceylanomer.serviceapi.service.persistence.Resource("res-1",
+                    List.of(new com.ceylanomer.serviceapi.service.persistence.Owner("owner-1", "Owner", null, 2)))));
+        });
+        when(commandBus.executeAll(anyList())).thenAnswer(invocation -> invocation.<List<CreateServiceCommand>>getArgument(0).stream()
+                .map(command -> new ServiceAggregate("service-" + created.incrementAndGet(), command.getResources()))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should return the service and map a missing one to NOT_FOUND with the catalogued error code")
+    void getService_ShouldMapServiceAndErrors() {
+        // Arrange
+        var stub = ServiceApiGrpc.newBlockingStub(channel);
+
+        // Act
+        Service service = stub.getService(GetServiceRequest.newBuilder().setId("service-1").build());
+
+        // Assert
+        assertThat(service.getId()).isEqualTo("service-1");
+        assertThat(service.getResources(0).getOwners(0).getLevel()).isEqualTo(2);
+        assertThat(service.getResources(0).getOwners(0).getAccountNumber()).isEmpty();
+        assertThatThrownBy(() -> stub.getService(GetServiceRequest.newBuilder().setId("missing-1").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, exception -> {
+                    assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+                    assertThat(exception.getTrailers().get(GrpcExceptionTranslator.ERROR_CODE_KEY)).isEqualTo("12");
+                });
+    }
+
+    @Test
+    @DisplayName("Should stream one result per id in order, reporting missing services inline")
+    void batchGetServices_ShouldStreamResultsInOrder() {
+        // Arrange
+        var stub = ServiceApiGrpc.newBlockingStub(channel);
+
+        // Act
+        List<BatchGetServiceResult> results = new ArrayList<>();
+        stub.batchGetServices(BatchGetServicesRequest.newBuilder().addIds("service-1").addIds("missing-2").addIds("service-3").build())
+                .forEachRemaining(results::add);
+
+        // Assert
+        assertThat(results).extracting(BatchGetServiceResult::getId).containsExactly("service-1", "missing-2", "service-3");
+        assertThat(results.get(0).hasService()).isTrue();
+        assertThat(results.get(1).getError().getCode()).isEqualTo("12");
+        assertThat(results.get(2).getService().getResourcesCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create streamed services in chunks and answer with their ids")
+    void bulkCreateServices_ShouldCreateInChunks() throws Exception {
+        // Arrange
+        grpcServerProperties.setBulkChunkSize(2);
+        var response = new CompletableFuture<BulkCreateServicesResponse>();
+        var requests = ServiceApiGrpc.newStub(channel).bulkCreateServices(observer(response));
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            requests.onNext(createRequest(1));
+        }
+        requests.onCompleted();
+
+        // Assert
+        assertThat(response.get(5, TimeUnit.SECONDS).getIdsList())
+                .containsExactly("service-1", "service-2", "service-3", "service-4", "service-5");
+        verify(commandBus, times(3)).executeAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a request over the owner limit and report how many services were already created")
+    void bulkCreateServices_WithTooManyOwners_ShouldFailWithCreatedCount() {
+        // Arrange
+        grpcServerProperties.setBulkChunkSize(1);
+        limits.setMaxOwnersPerResource(2);
+        var response = new CompletableFuture<BulkCreateServicesResponse>();
+        var requests = ServiceApiGrpc.newStub(channel).bulkCreateServices(observer(response));
+
+        // Act
+        requests.onNext(createRequest(1));
+        requests.onNext(createRequest(3));
+        requests.onCompleted();
+
+        // Assert
+        assertThat(response).failsWithin(5, TimeUnit.SECONDS).withThrowableThat().havingCause()
+                .isInstanceOfSatisfying(StatusRuntimeException.class, exception -> {
+                    assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+                    assertThat(exception.getTrailers().get(ServiceGrpcService.CREATED_COUNT_KEY)).isEqualTo("1");
+                });
+    }
+
+    private static CreateServiceRequest createRequest(int owners) {
+        Resource.Builder resource = Resource.newBuilder().setId("res-1");
+        for (int i = 0; i < owners; i++) {
+            resource.addOwners(Owner.newBuilder().setId("owner-" + i).setName("Owner").setLevel(1));
+        }
+        return CreateServiceRequest.newBuilder().addResources(resource).build();
+    }
+
+    private static <T> StreamObserver<T> observer(CompletableFuture<T> result) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.ceylanomer.serviceapi.service.persistence;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServiceDocument Mapping Tests")
+class ServiceDocumentMappingTest {
+
+    private final MappingMongoConverter converter = converter();
+
+    @Test
+    @DisplayName("Should read documents stored before resources and owners became records")
+    void read_WithLegacyDocument_ShouldMapNullLevelMissingOwnersAndNullEntries() {
+        // Arrange
+        Document stored = new Document("_id", "service-1")
+                .append("status", "ACTIVE")
+                .append("resources", List.of(
+                        new Document("_id", "res-1").append("owners", List.of(
+                                new Document("_id", "owner-1").append("name", "Owner").append("accountNumber", "ACC-1").append("level", null),
+                                new Document("_id", "owner-2").append("name", "Owner").append("accountNumber", "ACC-1").append("level", 4))),
+                        new Document("_id", "res-2"),
+                        new Document("_id", "res-3").append("owners", Arrays.asList(
+                                null, new Document("_id", "owner-3").append("name", "Owner").append("level", 1)))));
+
+        // Act
+        ServiceDocument document = converter.read(ServiceDocument.class, stored);
+
+        // Assert
+        Resource first = document.getResources().get(0);
+        assertThat(first.owners()).extracting(Owner::level).containsExactly(0, 4);
+        assertThat(document.getResources().get(1).owners()).isEmpty();
+        assertThat(document.getResources().get(2).owners()).extracting(Owner::id).containsExactly("owner-3");
+    }
+
+    @Test
+    @DisplayName("Should write records with the same field layout as before")
+    void write_WithRecords_ShouldKeepFieldNames() {
+        // Arrange
+        ServiceDocument document = ServiceDocument.builder().id("service-1").status(Status.ACTIVE)
+                .resources(List.of(new Resource("res-1", List.of(new Owner("owner-1", "Owner", "ACC-1", 2))))).build();
+        Document stored = new Document();
+
+        // Act
+        converter.write(document, stored);
+
+        // Assert
+        Document resource = stored.getList("resources", Document.class).get(0);
+        assertThat(resource.getString("_id")).isEqualTo("res-1");
+        assertThat(resource.getList("owners", Document.class).get(0))
+                .containsEntry("_id", "owner-1").containsEntry("accountNumber", "ACC-1").containsEntry("level", 2);
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -89,6 +89,31 @@ class ServiceRepositoryIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Create Services In Batch")
+    class CreateServicesInBatch {
+
+        @Test
+        @DisplayName("Should persist every service and keep input order")
+        void createAll_WithMultipleResourceLists_ShouldPersistAllInOrder() {
+            // Arrange
+            List<List<Resource>> resourceLists = List.of(createTestResources(), createUpdatedTestResources(), List.of());
+
+            // Act
+            List<ServiceAggregate> result = serviceRepository.createAll(resourceLists);
+
+            // Assert
+            assertThat(result).hasSize(3);
+            assertThat(result).extracting(ServiceAggregate::getResources).containsExactlyElementsOf(resourceLists);
+            assertThat(result).allSatisfy(service -> {
+                assertThat(service.getId()).isNotNull();
+                assertThat(service.getStatus()).isEqualTo(Status.ACTIVE);
+                assertThat(service.getDomainEvents()).hasSize(1);
+            });
+            assertThat(serviceMongoRepository.count()).isEqualTo(3);
+        }
+    }
+
     @Nested
     @DisplayName("Retrieve Service")
     class RetrieveService {
@@ -257,7 +282,7 @@ class ServiceRepositoryIntegrationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getResources()).hasSize(1);
-            assertThat(result.getResources().get(0).getOwners()).isNull();
+            assertThat(result.getResources().get(0).owners()).isEmpty();
         }
 
         @Test
@@ -166,15 +166,15 @@ class GetServiceByIdQueryHandlerIntegrationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getResources()).hasSize(2);
-            assertThat(result.getResources().get(0).getOwners()).hasSize(3);
-            assertThat(result.getResources().get(1).getOwners()).hasSize(1);
+            assertThat(result.getResources().get(0).owners()).hasSize(3);
+            assertThat(result.getResources().get(1).owners()).hasSize(1);
             
             // Verify resource details
             Resource firstResource = result.getResources().get(0);
-            assertThat(firstResource.getId()).isEqualTo("res-complex-1");
-            assertThat(firstResource.getOwners().get(0).getName()).isEqualTo("Alice Cooper");
-            assertThat(firstResource.getOwners().get(1).getName()).isEqualTo("Bob Dylan");
-            assertThat(firstResource.getOwners().get(2).getName()).isEqualTo("Charlie Parker");
+            assertThat(firstResource.id()).isEqualTo("res-complex-1");
+            assertThat(firstResource.owners().get(0).name()).isEqualTo("Alice Cooper");
+            assertThat(firstResource.owners().get(1).name()).isEqualTo("Bob Dylan");
+            assertThat(firstResource.owners().get(2).name()).isEqualTo("Charlie Parker");
         }
     }
 
@@ -204,7 +204,7 @@ class GetServiceByIdQueryHandlerIntegrationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getResources()).hasSize(1);
-            assertThat(result.getResources().get(0).getOwners()).isNull();
+            assertThat(result.getResources().get(0).owners()).isEmpty();
         }
 
         @Test
@@ -229,8 +229,8 @@ class GetServiceByIdQueryHandlerIntegrationTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getResources()).hasSize(50);
-            assertThat(result.getResources().get(0).getId()).isEqualTo("res-0");
-            assertThat(result.getResources().get(49).getId()).isEqualTo("res-49");
+            assertThat(result.getResources().get(0).id()).isEqualTo("res-0");
+            assertThat(result.getResources().get(49).id()).isEqualTo("res-49");
         }
 
         @Test
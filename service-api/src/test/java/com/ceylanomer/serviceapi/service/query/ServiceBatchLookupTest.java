@@ -0,0 +1,180 @@
+package com.ceylanomer.serviceapi.service.query;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.view.ActiveServiceView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ServiceBatchLookup Unit Tests")
+class ServiceBatchLookupTest {
+
+    private final ActiveServiceView activeServiceView = mock(ActiveServiceView.class);
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final ServiceBatchLookupProperties properties = new ServiceBatchLookupProperties();
+    private final RecordingSink sink = new RecordingSink();
+    private ServiceBatchLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        properties.setParallelism(2);
+        when(activeServiceView.find(anyString())).thenReturn(Optional.empty());
+        lookup = new ServiceBatchLookup(activeServiceView, serviceRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookup.close();
+    }
+
+    @Test
+    @DisplayName("Should emit view hits first, then every chunk, then the missing ids")
+    void lookup_WithViewHitsStoreHitsAndMissingIds_ShouldEmitMissingIdsLast() throws Exception {
+        // Arrange
+        when(activeServiceView.find("service-1")).thenReturn(Optional.of(createTestService("service-1")));
+        when(serviceRepository.retrieveServicesByIds(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> !id.startsWith("unknown")).map(this::createTestService).toList();
+        });
+
+        // Act
+        lookup.lookup(List.of("service-1", "service-2", "unknown-1", "service-3", "service-2", "unknown-2"), sink);
+
+        // Assert
+        assertThat(sink.events.getFirst()).isEqualTo("found:service-1");
+        assertThat(sink.events.getLast()).isEqualTo("missing:unknown-1,unknown-2");
+        assertThat(sink.events).containsExactlyInAnyOrder("found:service-1", "found:service-2", "found:service-3",
+                "missing:unknown-1,unknown-2");
+    }
+
+    @Test
+    @DisplayName("Should report the ids of a failed chunk and still serve the other chunks")
+    void lookup_WhenOneChunkFails_ShouldReportItsIdsAsFailed() throws Exception {
+        // Arrange
+        when(serviceRepository.retrieveServicesByIds(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            if (ids.contains("service-3")) {
+                throw new IllegalStateException("Mongo unavailable");
+            }
+            return ids.stream().map(this::createTestService).toList();
+        });
+
+        // Act
+        lookup.lookup(List.of("service-1", "service-2", "service-3", "service-4"), sink);
+
+        // Assert
+        assertThat(sink.events).containsExactlyInAnyOrder("found:service-1,service-2", "failed:service-3,service-4");
+    }
+
+    @Test
+    @DisplayName("Should keep no more than the configured number of chunk queries in flight")
+    void lookup_WithManyChunks_ShouldBoundParallelQueries() throws Exception {
+        // Arrange
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(serviceRepository.retrieveServicesByIds(any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().map(this::createTestService).toList();
+        });
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add("service-" + i);
+        }
+
+        // Act
+        lookup.lookup(ids, sink);
+
+        // Assert
+        assertThat(sink.events).hasSize(10);
+        assertThat(peak.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should cancel the chunk queries still running when the sink fails")
+    void lookup_WhenSinkFails_ShouldCancelOutstandingChunks() throws Exception {
+        // Arrange
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(serviceRepository.retrieveServicesByIds(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            if (ids.contains("service-3")) {
+                blocked.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException exception) {
+                    interrupted.countDown();
+                    throw exception;
+                }
+            }
+            return ids.stream().map(this::createTestService).toList();
+        });
+        ServiceBatchLookup.Sink failingSink = new RecordingSink() {
+            @Override
+            public void found(List<ServiceAggregate> services) throws IOException {
+                awaitQuietly(blocked);
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> lookup.lookup(List.of("service-1", "service-2", "service-3", "service-4"), failingSink))
+                .isInstanceOf(IOException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ServiceAggregate createTestService(String id) {
+        return new ServiceAggregate(id, List.of(new Resource("res-1", List.of(new Owner("owner-1", "Owner 1", "ACC-1", 1)))));
+    }
+
+    private static class RecordingSink implements ServiceBatchLookup.Sink {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void found(List<ServiceAggregate> services) throws IOException {
+            events.add("found:" + String.join(",", services.stream().map(ServiceAggregate::getId).toList()));
+        }
+
+        @Override
+        public void missing(List<String> ids) {
+            events.add("missing:" + String.join(",", ids));
+        }
+
+        @Override
+        public void failed(List<String> ids) {
+            events.add("failed:" + String.join(",", ids));
+        }
+    }
+}
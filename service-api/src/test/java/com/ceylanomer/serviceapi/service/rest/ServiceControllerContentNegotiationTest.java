@@ -0,0 +1,121 @@
+package com.ceylanomer.serviceapi.service.rest;
+
+import com.ceylanomer.serviceapi.common.command.Command;
+import com.ceylanomer.serviceapi.common.command.CommandBus;
+import com.ceylanomer.serviceapi.common.config.JacksonConfiguration;
+import com.ceylanomer.serviceapi.common.query.QueryBus;
+import com.ceylanomer.serviceapi.common.serialization.OutputBufferPool;
+import com.ceylanomer.serviceapi.common.serialization.PrecompiledJacksonHttpMessageConverter;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.query.GetServiceByIdQuery;
+import com.ceylanomer.serviceapi.service.rest.request.ServiceRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ServiceController Content Negotiation Tests")
+class ServiceControllerContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final CommandBus commandBus = mock(CommandBus.class);
+    private final QueryBus queryBus = mock(QueryBus.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ServiceController(commandBus, queryBus))
+                .setMessageConverters(
+                        new PrecompiledJacksonHttpMessageConverter(Jackson2ObjectMapperBuilder.json().build(),
+                                new OutputBufferPool(4, 64, 1024), List.of(), List.of()),
+                        configuration.mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+                        configuration.mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default when the client does not ask for a binary format")
+    void getById_WithoutAccept_ShouldRespondWithJson() throws Exception {
+        // Arrange
+        when(queryBus.execute(any(GetServiceByIdQuery.class))).thenReturn(createTestService());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/services/service-1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should respond with CBOR when the Accept header asks for it")
+    void getById_WithCborAccept_ShouldRespondWithCbor() throws Exception {
+        // Arrange
+        when(queryBus.execute(any(GetServiceByIdQuery.class))).thenReturn(createTestService());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/services/service-1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/data/id").asText()).isEqualTo("service-1");
+        assertThat(body.at("/data/resources/0/owners/0/level").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should read a Smile batch body and answer in Smile")
+    void createAll_WithSmileBody_ShouldReadAndRespondWithSmile() throws Exception {
+        // Arrange
+        SmileMapper smileMapper = new SmileMapper();
+        ServiceRequest request = new ServiceRequest(createTestService().getResources());
+        when(commandBus.executeAll(anyList())).thenReturn(List.of(createTestService()));
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/services/batch")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(List.of(request, request))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        // Assert
+        ArgumentCaptor<List<Command>> commands = ArgumentCaptor.forClass(List.class);
+        verify(commandBus).executeAll(commands.capture());
+        assertThat(commands.getValue()).hasSize(2);
+        JsonNode body = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.at("/data/items/0/resources/0/id").asText()).isEqualTo("resource-1");
+    }
+
+    private ServiceAggregate createTestService() {
+        return new ServiceAggregate("service-1",
+                List.of(new Resource("resource-1", List.of(new Owner("owner-1", "Owner One", "ACC-1", 3)))));
+    }
+}
@@ -0,0 +1,63 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.ceylanomer.serviceapi.service.query.ServiceBatchLookupProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ServiceLookupIdsDeserializer Unit Tests")
+class ServiceLookupIdsDeserializerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new SimpleModule().addDeserializer(ServiceLookupIds.class, new ServiceLookupIdsDeserializer(properties())))
+            .build();
+
+    @Test
+    @DisplayName("Should read an id array, keeping nulls for the lookup to skip")
+    void deserialize_WithIdArray_ShouldReadIds() throws Exception {
+        // Act
+        ServiceLookupIds body = objectMapper.readValue("[\"service-1\",null,\"service-2\"]", ServiceLookupIds.class);
+
+        // Assert
+        assertThat(body.ids()).containsExactly("service-1", null, "service-2");
+    }
+
+    @Test
+    @DisplayName("Should stop reading once the body holds more ids than allowed")
+    void deserialize_WithTooManyIds_ShouldRejectBeforeReadingTheRest() {
+        // Arrange
+        InputStream head = new ByteArrayInputStream("[\"a\",\"b\",\"c\",\"d\",".getBytes(StandardCharsets.UTF_8));
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Body was read past the limit");
+            }
+        };
+        InputStream body = new SequenceInputStream(Collections.enumeration(List.of(head, endless)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> objectMapper.readValue(body, ServiceLookupIds.class))
+                .isInstanceOf(ServiceApiPayloadTooLargeException.class)
+                .satisfies(exception -> assertThat(((ServiceApiPayloadTooLargeException) exception).getArgs())
+                        .containsExactly("ids per lookup", "3"));
+    }
+
+    private static ServiceBatchLookupProperties properties() {
+        ServiceBatchLookupProperties properties = new ServiceBatchLookupProperties();
+        properties.setMaxIds(3);
+        return properties;
+    }
+}
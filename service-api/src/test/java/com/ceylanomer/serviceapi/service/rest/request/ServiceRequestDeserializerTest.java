@@ -0,0 +1,119 @@
+package com.ceylanomer.serviceapi.service.rest.request;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiPayloadTooLargeException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ServiceRequestDeserializer Unit Tests")
+class ServiceRequestDeserializerTest {
+
+    private final ServiceRequestLimitProperties limits = limits();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new SimpleModule().addDeserializer(ServiceRequest.class, new ServiceRequestDeserializer(limits)))
+            .build();
+
+    @Test
+    @DisplayName("Should read resources and owners and share repeated strings")
+    void deserialize_WithRepeatedOwners_ShouldDeduplicateStrings() throws Exception {
+        // Arrange
+        String json = """
+                {"resources":[
+                  {"id":"resource-1","owners":[{"id":"owner-1","name":"Shared Owner","accountNumber":"ACC-1","level":3}]},
+                  {"id":"resource-2","unknown":{"nested":[1,2]},"owners":[{"id":"owner-2","name":"Shared Owner","accountNumber":"ACC-1","level":"4"}]}
+                ]}""";
+
+        // Act
+        ServiceRequest request = objectMapper.readValue(json, ServiceRequest.class);
+
+        // Assert
+        assertThat(request.getResources()).hasSize(2);
+        var first = request.getResources().get(0).owners().get(0);
+        var second = request.getResources().get(1).owners().get(0);
+        assertThat(first.level()).isEqualTo(3);
+        assertThat(second.level()).isEqualTo(4);
+        assertThat(second.name()).isSameAs(first.name());
+        assertThat(second.accountNumber()).isSameAs(first.accountNumber());
+    }
+
+    @Test
+    @DisplayName("Should stop reading once a resource has more owners than allowed")
+    void deserialize_WithTooManyOwners_ShouldRejectPayload() {
+        // Arrange
+        String json = "{\"resources\":[{\"id\":\"resource-1\",\"owners\":[{},{},{}]}]}";
+
+        // Act & Assert
+        assertThatThrownBy(() -> objectMapper.readValue(json, ServiceRequest.class))
+                .isInstanceOf(ServiceApiPayloadTooLargeException.class)
+                .satisfies(exception -> assertThat(((ServiceApiPayloadTooLargeException) exception).getArgs())
+                        .containsExactly("owners per resource", "2"));
+    }
+
+    @Test
+    @DisplayName("Should count resources across every request of a batch body")
+    void deserialize_WithBatchOverResourceLimit_ShouldRejectPayload() {
+        // Arrange
+        String json = "[{\"resources\":[{},{}]},{\"resources\":[{},{}]}]";
+
+        // Act & Assert
+        assertThatThrownBy(() -> objectMapper.readValue(json, new TypeReference<List<ServiceRequest>>() {
+        }))
+                .isInstanceOf(JsonMappingException.class)
+                .hasRootCauseInstanceOf(ServiceApiPayloadTooLargeException.class);
+    }
+
+    @Test
+    @DisplayName("Should stop reading a batch body with more services than allowed")
+    void deserialize_WithBatchOverSizeLimit_ShouldRejectPayload() {
+        // Arrange
+        String json = "[{},{},{}]";
+
+        // Act & Assert
+        assertThatThrownBy(() -> objectMapper.readValue(json, new TypeReference<List<ServiceRequest>>() {
+        }))
+                .isInstanceOf(JsonMappingException.class)
+                .rootCause()
+                .isInstanceOfSatisfying(ServiceApiPayloadTooLargeException.class, exception -> assertThat(exception.getArgs())
+                        .containsExactly("services per batch", "2"));
+    }
+
+    @Test
+    @DisplayName("Should reject bodies over the byte limit by Content-Length or while streaming")
+    void beforeBodyRead_WithOversizedBody_ShouldRejectPayload() throws Exception {
+        // Arrange
+        ServiceRequestBodyAdvice advice = new ServiceRequestBodyAdvice(limits);
+        byte[] body = ("{\"resources\":[{\"id\":\"" + "x".repeat(200) + "\"}]}").getBytes(StandardCharsets.UTF_8);
+        MockHttpInputMessage declared = new MockHttpInputMessage(body);
+        declared.getHeaders().setContentLength(body.length);
+        MockHttpInputMessage chunked = new MockHttpInputMessage(body);
+
+        // Act & Assert
+        assertThatThrownBy(() -> advice.beforeBodyRead(declared, null, ServiceRequest.class, null))
+                .isInstanceOf(ServiceApiPayloadTooLargeException.class);
+        HttpInputMessage limited = advice.beforeBodyRead(chunked, null, ServiceRequest.class, null);
+        assertThatThrownBy(() -> objectMapper.readValue(limited.getBody(), ServiceRequest.class))
+                .isInstanceOf(ServiceApiPayloadTooLargeException.class);
+    }
+
+    private static ServiceRequestLimitProperties limits() {
+        ServiceRequestLimitProperties limits = new ServiceRequestLimitProperties();
+        limits.setMaxBatchSize(2);
+        limits.setMaxResources(3);
+        limits.setMaxOwnersPerResource(2);
+        limits.setMaxBodySize(DataSize.ofBytes(128));
+        return limits;
+    }
+}
@@ -0,0 +1,126 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.ServiceDocument;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ActiveServiceView Unit Tests")
+class ActiveServiceViewTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ActiveServiceView view = new ActiveServiceView(new MaterializedViewProperties(), mongoTemplate, serviceRepository, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        view.close();
+    }
+
+    @Test
+    @DisplayName("Should serve created services and apply update deltas without touching Mongo")
+    void handle_WithCreatedAndUpdatedEvents_ShouldServeLatestResources() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        List<Resource> updated = createTestResources();
+        List<Owner> owners = new ArrayList<>(updated.get(1).owners());
+        owners.add(new Owner("owner-4", "Owner 4", "ACC-4", 1));
+        updated.set(1, new Resource("res-2", owners));
+        service.updateResources(updated);
+
+        // Act
+        view.handle(new ServiceCreatedDomainEvent(service));
+        view.handle((ServiceUpdatedDomainEvent) service.getDomainEvents().get(1));
+
+        // Assert
+        ServiceAggregate result = view.find("service-1").orElseThrow();
+        assertThat(result.getId()).isEqualTo("service-1");
+        assertThat(result.getStatus()).isEqualTo(Status.ACTIVE);
+        assertThat(result.getResources()).isEqualTo(updated);
+        assertThat(meterRegistry.counter("materialized.view.lookups", "view", "active_services", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop deleted services so lookups fall back to Mongo")
+    void handle_WithDeletedEvent_ShouldRemoveService() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        view.handle(new ServiceCreatedDomainEvent(service));
+        service.delete();
+
+        // Act
+        view.handle(new ServiceDeletedDomainEvent(service));
+
+        // Assert
+        assertThat(view.find("service-1")).isEmpty();
+        assertThat(meterRegistry.counter("materialized.view.lookups", "view", "active_services", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should bulk load active services without overwriting services changed by events")
+    void load_WithActiveServices_ShouldKeepNewerEventState() {
+        // Arrange
+        var created = new ServiceAggregate("service-2", createTestResources().subList(0, 1));
+        when(mongoTemplate.stream(any(Query.class), eq(ServiceDocument.class))).thenAnswer(invocation -> {
+            view.handle(new ServiceCreatedDomainEvent(created));
+            return Stream.of(
+                    ServiceDocument.builder().id("service-1").resources(createTestResources()).status(Status.ACTIVE).build(),
+                    ServiceDocument.builder().id("service-2").resources(createTestResources()).status(Status.ACTIVE).build());
+        });
+
+        // Act
+        view.load();
+
+        // Assert
+        assertThat(view.find("service-1")).get().extracting(ServiceAggregate::getResources).isEqualTo(createTestResources());
+        assertThat(view.find("service-2")).get().extracting(ServiceAggregate::getResources).isEqualTo(createTestResources().subList(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should stay empty when the materialized view is disabled")
+    void find_WhenDisabled_ShouldReturnEmpty() {
+        // Arrange
+        var properties = new MaterializedViewProperties();
+        properties.setEnabled(false);
+        var disabled = new ActiveServiceView(properties, mongoTemplate, serviceRepository, new SimpleMeterRegistry());
+
+        // Act
+        disabled.handle(new ServiceCreatedDomainEvent(new ServiceAggregate("service-1", createTestResources())));
+
+        // Assert
+        assertThat(disabled.find("service-1")).isEmpty();
+    }
+
+    private List<Resource> createTestResources() {
+        List<Resource> resources = new ArrayList<>();
+        resources.add(new Resource("res-1", new ArrayList<>(List.of(
+                new Owner("owner-1", "Owner 1", "ACC-1", 1),
+                new Owner("owner-2", "Owner 2", "ACC-2", 2)))));
+        resources.add(new Resource("res-2", new ArrayList<>(List.of(
+                new Owner("owner-2", "Owner 2", "ACC-2", 2),
+                new Owner("owner-3", "Owner 3", "ACC-3", 3)))));
+        return resources;
+    }
+}
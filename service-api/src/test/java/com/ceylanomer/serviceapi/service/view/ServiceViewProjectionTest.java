@@ -0,0 +1,181 @@
+package com.ceylanomer.serviceapi.service.view;
+
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceUpdatedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.ceylanomer.serviceapi.service.persistence.ServiceRepository;
+import com.ceylanomer.serviceapi.service.persistence.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ServiceViewProjection Unit Tests")
+class ServiceViewProjectionTest {
+
+    private final ServiceViewMongoRepository serviceViewMongoRepository = mock(ServiceViewMongoRepository.class);
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ServiceViewProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        projection = new ServiceViewProjection(serviceViewMongoRepository, serviceRepository, mongoTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should create the view with owner counts and flattened owner ids")
+    void handle_WithCreatedEvent_ShouldSaveDenormalizedView() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+
+        // Act
+        projection.handle(new ServiceCreatedDomainEvent(service));
+
+        // Assert
+        ServiceViewDocument view = upsertedView();
+        assertThat(view.getStatus()).isEqualTo(Status.ACTIVE);
+        assertThat(view.getVersion()).isEqualTo(1);
+        assertThat(view.getResourceCount()).isEqualTo(2);
+        assertThat(view.getOwnerCount()).isEqualTo(3);
+        assertThat(view.getOwnerIds()).containsExactly("owner-1", "owner-2", "owner-3");
+        assertThat(meterRegistry.timer("read.model.lag", "view", "service_views").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply resource deltas from update events to the stored view")
+    void handle_WithUpdatedEvent_ShouldApplyChanges() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        when(serviceViewMongoRepository.findById("service-1"))
+                .thenReturn(Optional.of(ServiceViewDocument.of("service-1", Status.ACTIVE, createTestResources(), 1, "m-1")));
+        when(mongoTemplate.findAndReplace(any(Query.class), any(ServiceViewDocument.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        List<Resource> updated = createTestResources();
+        List<Owner> owners = new ArrayList<>(updated.get(1).owners());
+        owners.add(new Owner("owner-4", "Owner 4", "ACC-4", 1));
+        updated.set(1, new Resource("res-2", owners));
+        service.updateResources(updated);
+
+        // Act
+        projection.handle((ServiceUpdatedDomainEvent) service.getDomainEvents().get(1));
+
+        // Assert
+        ArgumentCaptor<ServiceViewDocument> captor = ArgumentCaptor.forClass(ServiceViewDocument.class);
+        verify(mongoTemplate).findAndReplace(any(Query.class), captor.capture());
+        ServiceViewDocument view = captor.getValue();
+        assertThat(view.getVersion()).isEqualTo(2);
+        assertThat(view.getOwnerCount()).isEqualTo(4);
+        assertThat(view.getOwnerIds()).contains("owner-4");
+        assertThat(view.getResources()).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a missing view from the write model")
+    void handle_WithDeletedEventAndMissingView_ShouldRebuildFromWriteModel() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        service.delete();
+        when(serviceViewMongoRepository.findById("service-1")).thenReturn(Optional.empty());
+        when(serviceRepository.retrieveServiceById("service-1")).thenReturn(service);
+
+        // Act
+        projection.handle(new ServiceDeletedDomainEvent(service));
+
+        // Assert
+        ServiceViewDocument view = upsertedView();
+        assertThat(view.getStatus()).isEqualTo(Status.DELETED);
+        assertThat(view.getOwnerCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop events older than the stored view")
+    void handle_WithStaleUpdatedEvent_ShouldLeaveViewAlone() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        service.updateResources(List.of());
+        when(serviceViewMongoRepository.findById("service-1"))
+                .thenReturn(Optional.of(ServiceViewDocument.of("service-1", Status.ACTIVE, createTestResources(), 3, "m-3")));
+
+        // Act
+        projection.handle((ServiceUpdatedDomainEvent) service.getDomainEvents().get(1));
+
+        // Assert
+        verifyNoInteractions(mongoTemplate, serviceRepository);
+    }
+
+    @Test
+    @DisplayName("Should reload a view that skipped a version instead of applying the delta")
+    void handle_WithVersionGap_ShouldRebuildFromWriteModel() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        service.updateResources(List.of());
+        service.updateResources(createTestResources());
+        when(serviceViewMongoRepository.findById("service-1"))
+                .thenReturn(Optional.of(ServiceViewDocument.of("service-1", Status.ACTIVE, List.of(), 1, "m-1")));
+        when(serviceRepository.retrieveServiceById("service-1")).thenReturn(service);
+
+        // Act
+        projection.handle((ServiceUpdatedDomainEvent) service.getDomainEvents().get(2));
+
+        // Assert
+        ServiceViewDocument view = upsertedView();
+        assertThat(view.getVersion()).isEqualTo(3);
+        assertThat(view.getResources()).isEqualTo(createTestResources());
+        verify(mongoTemplate, never()).findAndReplace(any(Query.class), any(ServiceViewDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should only upsert over an older view and treat a conflicting insert as stale")
+    void handle_WithCreatedEventBehindStoredView_ShouldIgnoreDuplicateKey() {
+        // Arrange
+        var service = new ServiceAggregate("service-1", createTestResources());
+        when(mongoTemplate.findAndReplace(any(Query.class), any(ServiceViewDocument.class), any(FindAndReplaceOptions.class)))
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        // Act
+        projection.handle(new ServiceCreatedDomainEvent(service));
+
+        // Assert
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(captor.capture(), any(ServiceViewDocument.class), any(FindAndReplaceOptions.class));
+        assertThat(captor.getValue().getQueryObject().toJson()).contains("\"version\": {\"$not\": {\"$gte\": 1}}");
+    }
+
+    private ServiceViewDocument upsertedView() {
+        ArgumentCaptor<ServiceViewDocument> captor = ArgumentCaptor.forClass(ServiceViewDocument.class);
+        verify(mongoTemplate).findAndReplace(any(Query.class), captor.capture(), any(FindAndReplaceOptions.class));
+        return captor.getValue();
+    }
+
+    private List<Resource> createTestResources() {
+        List<Resource> resources = new ArrayList<>();
+        resources.add(new Resource("res-1", new ArrayList<>(List.of(
+                new Owner("owner-1", "Owner 1", "ACC-1", 1),
+                new Owner("owner-2", "Owner 2", "ACC-2", 2)))));
+        resources.add(new Resource("res-2", new ArrayList<>(List.of(
+                new Owner("owner-2", "Owner 2", "ACC-2", 2),
+                new Owner("owner-3", "Owner 3", "ACC-3", 3)))));
+        return resources;
+    }
+}
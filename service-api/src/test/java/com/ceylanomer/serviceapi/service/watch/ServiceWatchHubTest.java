@@ -0,0 +1,192 @@
+package com.ceylanomer.serviceapi.service.watch;
+
+import com.ceylanomer.serviceapi.common.exception.ServiceApiOverloadedException;
+import com.ceylanomer.serviceapi.service.ServiceAggregate;
+import com.ceylanomer.serviceapi.service.event.ServiceCreatedDomainEvent;
+import com.ceylanomer.serviceapi.service.event.ServiceDeletedDomainEvent;
+import com.ceylanomer.serviceapi.service.persistence.Owner;
+import com.ceylanomer.serviceapi.service.persistence.Resource;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("ServiceWatchHub Unit Tests")
+class ServiceWatchHubTest {
+
+    private final ServiceWatchProperties properties = new ServiceWatchProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<RecordingEmitter> emitters = new ArrayDeque<>();
+    private final ServiceWatchHub hub = new ServiceWatchHub(properties, JsonMapper.builder().build(), meterRegistry) {
+        @Override
+        SseEmitter createEmitter() {
+            return emitters.removeFirst();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream only the events of the watched service")
+    void handle_WithServiceFilter_ShouldDeliverMatchingEvents() {
+        // Arrange
+        RecordingEmitter emitter = expectEmitter();
+        hub.watch(ServiceWatchFilter.forService("service-1"), null);
+
+        // Act
+        hub.handle(created("service-2"));
+        hub.handle(created("service-1"));
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(emitter.events()).hasSize(2));
+        assertThat(emitter.events().get(0)).contains(":connected");
+        assertThat(emitter.events().get(1)).contains("event:SERVICE_CREATED").contains("-2\n").contains("\"id\":\"service-1\"");
+    }
+
+    @Test
+    @DisplayName("Should replay the events missed since Last-Event-ID")
+    void watch_WithLastEventId_ShouldReplayMissedEvents() {
+        // Arrange
+        RecordingEmitter first = expectEmitter();
+        hub.watch(new ServiceWatchFilter(null, null), null);
+        hub.handle(created("service-1"));
+        hub.handle(created("service-2"));
+        hub.handle(deleted("service-1"));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(first.events()).hasSize(4));
+        String lastEventId = eventId(first.events().get(1));
+        RecordingEmitter resumed = expectEmitter();
+
+        // Act
+        hub.watch(new ServiceWatchFilter(null, null), lastEventId);
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(resumed.events()).hasSize(3));
+        assertThat(resumed.events().get(1)).contains("\"id\":\"service-2\"");
+        assertThat(resumed.events().get(2)).contains("event:SERVICE_DELETED");
+        assertThat(meterRegistry.counter("service.watch.resumes", "result", "replayed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send a reset event when the resume position is unknown")
+    void watch_WithForeignLastEventId_ShouldSendReset() {
+        // Arrange
+        hub.handle(created("service-1"));
+        RecordingEmitter emitter = expectEmitter();
+
+        // Act
+        hub.watch(new ServiceWatchFilter(null, null), "previous-process-42");
+
+        // Assert
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(emitter.events()).hasSize(2));
+        assertThat(emitter.events().get(1)).contains("event:reset").contains("lastEventId");
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full without affecting the others")
+    void handle_WithSlowSubscriber_ShouldDisconnectOnOverflow() {
+        // Arrange
+        properties.setBufferSize(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = expectEmitter(release);
+        RecordingEmitter fast = expectEmitter();
+        hub.watch(new ServiceWatchFilter(null, null), null);
+        hub.watch(new ServiceWatchFilter(null, null), null);
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.sending);
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            hub.handle(created("service-" + i));
+            int received = i + 1;
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(fast.events()).hasSize(received));
+        }
+
+        // Assert
+        assertThat(meterRegistry.counter("service.watch.disconnects", "reason", "overflow").count()).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject subscribers beyond the configured maximum")
+    void watch_WithTooManySubscribers_ShouldThrowOverloaded() {
+        // Arrange
+        properties.setMaxSubscribers(1);
+        expectEmitter();
+        expectEmitter();
+        hub.watch(new ServiceWatchFilter(null, null), null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> hub.watch(new ServiceWatchFilter(null, null), null))
+                .isInstanceOf(ServiceApiOverloadedException.class);
+    }
+
+    private RecordingEmitter expectEmitter() {
+        return expectEmitter(new CountDownLatch(0));
+    }
+
+    private RecordingEmitter expectEmitter(CountDownLatch release) {
+        RecordingEmitter emitter = new RecordingEmitter(release);
+        emitters.addLast(emitter);
+        return emitter;
+    }
+
+    private static ServiceCreatedDomainEvent created(String id) {
+        return new ServiceCreatedDomainEvent(new ServiceAggregate(id, List.of(
+                new Resource("res-1", List.of(new Owner("owner-1", "Owner", "ACC-1", 1))))));
+    }
+
+    private static ServiceDeletedDomainEvent deleted(String id) {
+        var service = new ServiceAggregate(id, List.of());
+        service.delete();
+        return new ServiceDeletedDomainEvent(service);
+    }
+
+    private static String eventId(String event) {
+        return event.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean sending;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException(exception);
+            }
+            events.add(builder.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining()));
+        }
+
+        List<String> events() {
+            return events;
+        }
+    }
+}
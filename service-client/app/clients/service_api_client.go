@@ -110,6 +110,9 @@ func (c *serviceApiClient) RetrieveServiceById(ctx context.Context, serviceId st
 		return nil, err
 	}
 
+	// Bulk retrieval fans out single reads; mark them so the API sheds them before interactive reads
+	req.Header.Set("X-Traffic-Class", "batch-read")
+
 	retryableRequest, err := retryablehttp.FromRequest(req)
 	if err != nil {
 		zap.L().Error("Failed to create retryable request", zap.Error(err))